@@ -1,7 +1,11 @@
 package ru.dev1art.ems.config;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.stage.Stage;
 import javafx.stage.StageStyle;
@@ -10,20 +14,26 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
-import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import ru.dev1art.ems.controllers.MainController;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Main entry point for the EMS application.
  * This class extends the JavaFX Application class and integrates Spring Boot to manage the application context.
  * It handles the initialization of the Spring context, the setup of the JavaFX UI, and application lifecycle events.
+ * <p>
+ * By default the Spring context is booted with lazy initialization on a background thread while the main window
+ * is already shown with a progress indicator, and the main view replaces it once the context is ready.
+ * Starting with -Dems.startup.mode=blocking boots the context eagerly before the window is shown instead.
  *
  * @author Dev1Art
  * @project EMS
@@ -35,20 +45,30 @@ import java.util.Objects;
 @ComponentScan(basePackages = "ru.dev1art.ems")
 @EntityScan(basePackages = "ru.dev1art.ems.domain.model")
 @EnableJpaRepositories(basePackages = "ru.dev1art.ems.repos")
+@EnableScheduling
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class EMS extends Application {
 
     static final Marker UI_MARKER = MarkerFactory.getMarker("UI");
     static final Marker APPLICATION_MARKER = MarkerFactory.getMarker("APPLICATION");
-    ConfigurableApplicationContext configurableApplicationContext;
+    static final String STARTUP_MODE_PROPERTY = "ems.startup.mode";
+    static final String BLOCKING_STARTUP_MODE = "blocking";
+    static final String EXIT_AFTER_MAIN_VIEW_PROPERTY = "ems.startup.exit-after-main-view";
+    static final String AOT_PROCESSING_PROPERTY = "spring.aot.processing";
+    CompletableFuture<ConfigurableApplicationContext> contextFuture;
 
     /**
      * Main method that serves as the entry point of the application.
      * It initializes the application and launches the JavaFX application.
+     * During Spring AOT processing at build time only the Spring context is prepared, without the UI.
      *
      * @param args Command-line arguments passed to the application.
      */
     public static void main(String[] args) {
+        if (Boolean.getBoolean(AOT_PROCESSING_PROPERTY)) {
+            createSpringApplication(false).run(args);
+            return;
+        }
         log.info(APPLICATION_MARKER, "Starting EMS application");
         Application.launch(args);
     }
@@ -56,19 +76,27 @@ public class EMS extends Application {
     /**
      * Initializes the Spring application context before the JavaFX application starts.
      * This method is called by the JavaFX framework during the application lifecycle.
+     * In the background startup mode the context is only started here, on a separate thread.
      *
      * @throws Exception if any error occurs during the initialization of the Spring context.
      */
     @Override
     public void init() throws Exception {
-        log.info(APPLICATION_MARKER, "Initializing Spring context");
-        configurableApplicationContext = SpringApplication.run(EMS.class);
+        String[] args = getParameters().getRaw().toArray(String[]::new);
+        if (BLOCKING_STARTUP_MODE.equals(System.getProperty(STARTUP_MODE_PROPERTY))) {
+            log.info(APPLICATION_MARKER, "Initializing Spring context");
+            contextFuture = CompletableFuture.completedFuture(runSpringApplication(false, args));
+        } else {
+            log.info(APPLICATION_MARKER, "Initializing Spring context in the background");
+            contextFuture = CompletableFuture.supplyAsync(() -> runSpringApplication(true, args),
+                    runnable -> new Thread(runnable, "ems-bootstrap").start());
+        }
     }
 
     /**
      * Starts the JavaFX application and sets up the main stage and scene.
-     * This method is called after the init method and is responsible for loading the FXML layout
-     * and applying styles.
+     * This method is called after the init method. The main window is shown right away,
+     * with a progress indicator until the Spring context is ready to load the main view.
      *
      * @param stage The primary stage for this application, onto which the application scene can be set.
      * @throws Exception if any error occurs during the setup of the UI.
@@ -76,23 +104,56 @@ public class EMS extends Application {
     @Override
     public void start(Stage stage) throws Exception {
         log.info(UI_MARKER, "Starting UI");
+        stage.setResizable(false);
+        stage.initStyle(StageStyle.TRANSPARENT);
+        stage.setTitle("EMS");
+        if (!contextFuture.isDone()) {
+            Scene loadingScene = new Scene(new StackPane(new ProgressIndicator()), 700, 400);
+            loadingScene.setFill(Color.TRANSPARENT);
+            stage.setScene(loadingScene);
+            stage.show();
+            onNextFrame(() -> StartupLog.milestone(StartupLog.FIRST_FRAME));
+            log.info(UI_MARKER, "Main stage shown, waiting for Spring context");
+        }
+        contextFuture.whenComplete((context, exception) -> Platform.runLater(() -> {
+            if (exception != null) {
+                log.error("Error initializing Spring context:", exception);
+                Platform.exit();
+            } else {
+                showMainView(stage, context);
+            }
+        }));
+    }
+
+    /**
+     * Loads the main view into the main stage and applies its styles.
+     * The pop-ups are preloaded right after the main view has been shown.
+     *
+     * @param stage The primary stage.
+     * @param context The started Spring context.
+     */
+    private void showMainView(Stage stage, ConfigurableApplicationContext context) {
+        long start = System.nanoTime();
         try {
-            SpringFXMLLoader loader = configurableApplicationContext.getBean(SpringFXMLLoader.class);
+            SpringFXMLLoader loader = context.getBean(SpringFXMLLoader.class);
             Scene scene = new Scene(loader.load("/ru/dev1art/ems/MainController.fxml"), 700, 400);
             scene.getStylesheets().add(Objects.requireNonNull(
                     EMS.class.getResource("/ru/dev1art/ems/styles/mainFxmlStyle.css")).toExternalForm());
             scene.setFill(Color.TRANSPARENT);
 
-            MainController mainController = configurableApplicationContext.getBean(MainController.class);
+            MainController mainController = context.getBean(MainController.class);
             mainController.setMainStage(stage);
 
-            stage.setResizable(false);
-            stage.initStyle(StageStyle.TRANSPARENT);
-            stage.setTitle("EMS");
             stage.setScene(scene);
             stage.show();
-            log.info(UI_MARKER, "Main stage shown");
-
+            StartupLog.phase("main view", start);
+            onNextFrame(() -> {
+                StartupLog.milestone(StartupLog.MAIN_VIEW_FRAME);
+                if (Boolean.getBoolean(EXIT_AFTER_MAIN_VIEW_PROPERTY)) {
+                    Platform.exit();
+                }
+            });
+            Platform.runLater(mainController::preloadPopUps);
         } catch (Exception exception) {
             log.error("Error starting UI:", exception);
         }
@@ -100,13 +161,48 @@ public class EMS extends Application {
 
     /**
      * Stops the JavaFX application and closes the Spring application context.
-     * This method is called when the application is about to exit.
+     * This method is called when the application is about to exit. A context that is still starting
+     * is closed as soon as it is ready.
      *
      * @throws Exception if any error occurs during the stopping of the application.
      */
     @Override
     public void stop() throws Exception {
         log.info(APPLICATION_MARKER, "Stopping EMS application");
-        configurableApplicationContext.close();
+        contextFuture.thenAccept(ConfigurableApplicationContext::close);
+    }
+
+    /**
+     * Creates the Spring application. The main class is set explicitly, as it can not be deduced on the
+     * bootstrap thread, and Spring AOT looks the generated initializer up by it.
+     *
+     * @param lazyInitialization Whether beans not excluded by {@link LazyInitializationConfig}
+     *                           are created on first use.
+     * @return The Spring application.
+     */
+    static SpringApplicationBuilder createSpringApplication(boolean lazyInitialization) {
+        return new SpringApplicationBuilder(EMS.class).main(EMS.class).lazyInitialization(lazyInitialization);
+    }
+
+    private static ConfigurableApplicationContext runSpringApplication(boolean lazyInitialization, String[] args) {
+        long start = System.nanoTime();
+        ConfigurableApplicationContext context = createSpringApplication(lazyInitialization).run(args);
+        StartupLog.phase("Spring context", start);
+        return context;
+    }
+
+    /**
+     * Runs an action on the next pulse, that is once the current scene has been rendered.
+     *
+     * @param action The action to run on the JavaFX application thread.
+     */
+    private static void onNextFrame(Runnable action) {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                action.run();
+            }
+        }.start();
     }
-}
\ No newline at end of file
+}
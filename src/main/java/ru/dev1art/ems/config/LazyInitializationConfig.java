@@ -0,0 +1,30 @@
+package ru.dev1art.ems.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import ru.dev1art.ems.services.EmployeeService;
+
+/**
+ * Keeps the data layer eager when the application starts with lazy initialization.
+ * The entity manager factory, the repositories and the employee service, with everything it depends on,
+ * are then still created by the background bootstrap, instead of on the JavaFX thread
+ * when the main view asks for its controller. Controllers, import, export, actuator and other
+ * beans that are not needed to show the table are created on first use.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Configuration(proxyBeanMethods = false)
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter dataLayerLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                EntityManagerFactoryInfo.class, RepositoryFactoryBeanSupport.class, EmployeeService.class);
+    }
+}
@@ -1,6 +1,7 @@
 package ru.dev1art.ems.config;
 
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
 import lombok.AccessLevel;
 import lombok.Setter;
 import lombok.experimental.FieldDefaults;
@@ -10,13 +11,17 @@ import org.slf4j.MarkerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.context.ApplicationContext;
+import ru.dev1art.ems.util.jfr.FxmlLoadEvent;
 import java.io.IOException;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Utility class for loading FXML files in a Spring context.
  * This class integrates JavaFX's FXMLLoader with Spring's ApplicationContext
  * to allow for dependency injection of controllers defined in FXML files.
+ * Views that are opened repeatedly, such as pop-ups, can be loaded once and reused through {@link #loadView(String)}.
  *
  * @author Dev1Art
  * @project EMS
@@ -29,6 +34,7 @@ import java.net.URL;
 public class SpringFXMLLoader {
     static final Marker UI_MARKER = MarkerFactory.getMarker("UI");
     @Autowired @Setter ApplicationContext applicationContext;
+    final Map<String, View<?>> views = new HashMap<>();
 
     /**
      * Loads an FXML file and returns the corresponding controller instance.
@@ -41,6 +47,40 @@ public class SpringFXMLLoader {
      * @throws IOException if there is an error loading the FXML file or the resource is not found.
      */
     public <T> T load(String fxml) throws IOException {
+        return loadFXML(fxml).getRoot();
+    }
+
+    /**
+     * Returns the view of an FXML file, loading it on first use only. The same root node and controller are
+     * returned on every later call, so the caller is responsible for resetting the state of the view before
+     * showing it again. Must be called from the JavaFX application thread.
+     *
+     * @param fxml The path to the FXML file.
+     * @param <C> The type of the controller defined in the FXML.
+     * @return The loaded view.
+     * @throws IOException if there is an error loading the FXML file or the resource is not found.
+     */
+    @SuppressWarnings("unchecked")
+    public <C> View<C> loadView(String fxml) throws IOException {
+        View<?> view = views.get(fxml);
+        if (view == null) {
+            FXMLLoader loader = loadFXML(fxml);
+            view = new View<>(loader.<Parent>getRoot(), loader.getController());
+            views.put(fxml, view);
+        } else {
+            log.debug(UI_MARKER, "Reusing loaded FXML: {}", fxml);
+        }
+        return (View<C>) view;
+    }
+
+    /**
+     * Loads an FXML file with controllers taken from the Spring application context.
+     *
+     * @param fxml The path to the FXML file.
+     * @return The loader holding the loaded root and controller.
+     * @throws IOException if there is an error loading the FXML file or the resource is not found.
+     */
+    private FXMLLoader loadFXML(String fxml) throws IOException {
         log.debug(UI_MARKER, "Loading FXML: {}", fxml);
 
         URL fxmlResource = getClass().getResource(fxml);
@@ -50,15 +90,28 @@ public class SpringFXMLLoader {
             throw new IOException(message);
         }
 
+        FxmlLoadEvent event = new FxmlLoadEvent(fxml);
+        event.begin();
         try {
             FXMLLoader loader = new FXMLLoader(fxmlResource);
             loader.setControllerFactory(applicationContext::getBean);
-            T loadedObject = loader.load();
+            loader.load();
             log.debug(UI_MARKER, "FXML loaded successfully: {}", fxml);
-            return loadedObject;
+            return loader;
         } catch (IOException exception) {
             log.error("Error loading FXML {}: ", fxml, exception);
             throw exception;
+        } finally {
+            event.commit();
         }
     }
+
+    /**
+     * A loaded FXML view.
+     *
+     * @param root The root node of the view.
+     * @param controller The controller of the view.
+     * @param <C> The type of the controller.
+     */
+    public record View<C>(Parent root, C controller) { }
 }
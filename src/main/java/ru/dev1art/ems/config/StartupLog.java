@@ -0,0 +1,50 @@
+package ru.dev1art.ems.config;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the duration of the startup phases, together with the time elapsed since the JVM started,
+ * so that class loading and JVM boot are accounted for as well.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StartupLog {
+    static final Marker STARTUP_MARKER = MarkerFactory.getMarker("STARTUP");
+    public static final String FIRST_FRAME = "first frame";
+    public static final String MAIN_VIEW_FRAME = "first main view frame";
+
+    /**
+     * Logs a finished startup phase.
+     *
+     * @param phase The name of the phase.
+     * @param startNanos The {@link System#nanoTime()} at which the phase started.
+     */
+    public static void phase(String phase, long startNanos) {
+        log.info(STARTUP_MARKER, "Startup phase {} took {} ms, {} ms after JVM start",
+                phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), uptimeMillis());
+    }
+
+    /**
+     * Logs a startup milestone that is not the end of a single phase, such as the first rendered frame.
+     *
+     * @param milestone The name of the milestone.
+     */
+    public static void milestone(String milestone) {
+        log.info(STARTUP_MARKER, "Startup milestone {} reached {} ms after JVM start", milestone, uptimeMillis());
+    }
+
+    private static long uptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+}
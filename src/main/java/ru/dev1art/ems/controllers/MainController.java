@@ -1,18 +1,21 @@
 package ru.dev1art.ems.controllers;
 
 import javafx.animation.Interpolator;
+import javafx.animation.PauseTransition;
 import javafx.animation.ScaleTransition;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableRow;
 import javafx.scene.control.TableView;
+import javafx.scene.control.TextField;
 import javafx.scene.paint.Color;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
@@ -27,18 +30,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationContext;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import ru.dev1art.ems.config.SpringFXMLLoader;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.domain.dto.EmployeeSortField;
 import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.util.async.EmployeeWriteQueue;
+import ru.dev1art.ems.util.async.FxTaskRunner;
+import ru.dev1art.ems.util.jfr.TableRefreshEvent;
 import ru.dev1art.ems.util.lang.I18NUtil;
+import ru.dev1art.ems.util.table.EmployeeTableModel;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URL;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import java.util.ResourceBundle;
 
 /**
@@ -51,7 +64,7 @@ import java.util.ResourceBundle;
 @Component
 @FieldDefaults(level = AccessLevel.PRIVATE)
 @NoArgsConstructor
-public class MainController implements Initializable {
+public class MainController implements Initializable, EmployeeWriteQueue.BatchListener {
     @FXML @Getter @Setter TableView<EmployeeDTO> employeeTable;
     @FXML TableColumn<EmployeeDTO, Integer> idColumn;
     @FXML TableColumn<EmployeeDTO, String> lastNameColumn;
@@ -67,13 +80,25 @@ public class MainController implements Initializable {
     @FXML @Setter @Getter Button refreshTableButton;
     @FXML @Setter @Getter Button languageChangerButton;
     @FXML @Setter @Getter Button exitButton;
+    @FXML @Setter @Getter ProgressIndicator progressIndicator;
+    @FXML @Setter @Getter TextField filterField;
     @Setter Stage mainStage;
+    Stage menuStage;
+    Stage formStage;
     @Autowired @Setter EmployeeService employeeService;
-    @Autowired ApplicationContext applicationContext;
+    @Autowired @Setter FxTaskRunner taskRunner;
+    EmployeeWriteQueue employeeWriteQueue;
     @Autowired SpringFXMLLoader springFXMLLoader;
     @Setter PopUpController popUpController;
     @Setter MenuController menuController;
+    @Getter EmployeeTableModel employeeTableModel;
+    @Getter EmployeeQueryDTO employeeQuery = EmployeeQueryDTO.DEFAULT;
+    final Map<TableColumn<EmployeeDTO, ?>, EmployeeSortField> sortFields = new HashMap<>();
+    PauseTransition filterDelay;
+    boolean pageLoadScheduled;
     boolean isEnglishLocale = true;
+    static final String TABLE_CHANNEL = "employeeTable";
+    static final String TABLE_PAGE_CHANNEL = "employeeTablePage";
     static final Marker UI_MARKER = MarkerFactory.getMarker("UI");
     static final Marker DATA_MARKER = MarkerFactory.getMarker("DATA");
 
@@ -90,6 +115,8 @@ public class MainController implements Initializable {
         log.info(UI_MARKER, "Initializing MainController");
         try {
             setUpTableProperties();
+            setUpProgressIndicator();
+            setUpFilterField();
             loadEmployeeData();
             addButtonsActionOnClick();
         } catch (Exception exception) {
@@ -100,7 +127,8 @@ public class MainController implements Initializable {
     /**
      * Sets up the properties for the table view, including binding the
      * columns to the appropriate properties of the EmployeeDTO.
-     * This method also enables sorting for each column.
+     * This method also enables sorting for each column. Sorting the paged employee list is delegated
+     * to the database, while query results shown from the menu are small and sorted in memory.
      */
     private void setUpTableProperties() {
         log.info(DATA_MARKER, "Binding tableview properties");
@@ -140,33 +168,274 @@ public class MainController implements Initializable {
                 return new SimpleObjectProperty<>(employeeDTO.salary());
             });
             salaryColumn.setSortable(true);
+            sortFields.put(idColumn, EmployeeSortField.ID);
+            sortFields.put(lastNameColumn, EmployeeSortField.LAST_NAME);
+            sortFields.put(positionColumn, EmployeeSortField.POSITION);
+            sortFields.put(birthDateColumn, EmployeeSortField.BIRTH_DATE);
+            sortFields.put(hireDateColumn, EmployeeSortField.HIRE_DATE);
+            sortFields.put(departmentNumberColumn, EmployeeSortField.DEPARTMENT_NUMBER);
+            sortFields.put(salaryColumn, EmployeeSortField.SALARY);
+            employeeTable.setSortPolicy(table -> {
+                if (employeeTableModel == null || table.getItems() != employeeTableModel.getItems()) {
+                    return TableView.DEFAULT_SORT_POLICY.call(table);
+                }
+                onSortOrderChanged();
+                return true;
+            });
+            employeeTable.setRowFactory(table -> {
+                TableRow<EmployeeDTO> row = new TableRow<>();
+                row.indexProperty().addListener((observable, oldIndex, newIndex) ->
+                        onRowIndexChanged(newIndex.intValue()));
+                return row;
+            });
         } catch (Exception exception) {
             log.error("Error during tableview properties binding: {}", exception.getMessage());
         }
     }
 
     /**
-     * Loads the employee data from the EmployeeService and populates
-     * the table view with the retrieved EmployeeDTO objects.
+     * Shows the progress indicator while background tasks are running.
+     */
+    private void setUpProgressIndicator() {
+        if (progressIndicator != null) {
+            progressIndicator.visibleProperty().bind(taskRunner.busyProperty());
+        }
+    }
+
+    /**
+     * Reloads the table whenever the user stops typing in the filter field for a moment.
+     */
+    private void setUpFilterField() {
+        if (filterField == null) {
+            return;
+        }
+        filterDelay = new PauseTransition(Duration.millis(300));
+        filterDelay.setOnFinished(event -> applyQuery(employeeQuery.toBuilder()
+                .filterText(filterField.getText())
+                .build()));
+        filterField.textProperty().addListener((observable, oldText, newText) -> filterDelay.playFromStart());
+    }
+
+    /**
+     * Translates the table's sort order into the query. Only the primary sort column is sent to the database,
+     * ties are always broken by ID. Without a sort column the table falls back to its natural ID order.
+     */
+    private void onSortOrderChanged() {
+        EmployeeQueryDTO.EmployeeQueryDTOBuilder query = employeeQuery.toBuilder()
+                .sortField(EmployeeSortField.ID)
+                .ascending(true);
+        if (!employeeTable.getSortOrder().isEmpty()) {
+            TableColumn<EmployeeDTO, ?> column = employeeTable.getSortOrder().get(0);
+            query.sortField(sortFields.getOrDefault(column, EmployeeSortField.ID))
+                    .ascending(column.getSortType() == TableColumn.SortType.ASCENDING);
+        }
+        applyQuery(query.build());
+    }
+
+    /**
+     * Reloads the table from its first page if the query differs from the one currently shown.
+     *
+     * @param query The new sort order and filter.
+     */
+    public void applyQuery(EmployeeQueryDTO query) {
+        if (query.equals(employeeQuery)) {
+            return;
+        }
+        log.info(UI_MARKER, "Applying table query {}", query);
+        employeeQuery = query;
+        loadEmployeeData();
+    }
+
+    /**
+     * Loads the first page of employee data from the EmployeeService in the background
+     * and populates the table view with it. Further pages are fetched as the user scrolls.
      */
     public void loadEmployeeData() {
         log.info(DATA_MARKER, "Loading data to tableview");
-        try {
-            ObservableList<EmployeeDTO> employees = FXCollections.observableArrayList(employeeService.getAllEmployees());
-            employeeTable.setItems(employees);
-        } catch (Exception exception) {
-            log.error("Error during tableview data loading: {}", exception.getMessage());
+        if (employeeTableModel == null) {
+            employeeTableModel = new EmployeeTableModel();
         }
+        taskRunner.cancel(TABLE_PAGE_CHANNEL);
+        pageLoadScheduled = false;
+        int pageSize = employeeTableModel.getPageSize();
+        EmployeeQueryDTO query = employeeQuery;
+        TableRefreshEvent event = new TableRefreshEvent(TableRefreshEvent.FULL);
+        event.begin();
+        taskRunner.submit(TABLE_CHANNEL,
+                () -> {
+                    Instant loadedAt = employeeService.getDatabaseTime();
+                    return new FirstPage(loadedAt, employeeService.getEmployeesPage(query, null, pageSize));
+                },
+                firstPage -> {
+                    employeeTableModel.setFirstPage(firstPage.employees(), firstPage.loadedAt());
+                    employeeTable.setItems(employeeTableModel.getItems());
+                    event.setRows(firstPage.employees().size());
+                    event.commit();
+                },
+                exception -> {
+                    log.error("Error during tableview data loading: {}", exception.getMessage());
+                    event.setFailed(true);
+                    event.commit();
+                });
     }
 
     /**
-     * Refreshes the employee table by clearing the current items and
-     * reloading the data from the EmployeeService.
+     * Refreshes the employee table after a change. Only the employees changed since the last load are fetched,
+     * and they are applied to the loaded rows in place, keeping the selection and scroll position.
+     * Falls back to a full reload if the table currently shows something else, such as a menu query result,
+     * or is sorted or filtered, where a changed row may move to a page that is not loaded.
+     * Both are recorded as a {@link TableRefreshEvent} lasting until the rows are applied.
      */
     public void refreshTable() {
         log.info(UI_MARKER, "Refreshing table");
-        employeeTable.getItems().clear();
-        loadEmployeeData();
+        if (employeeTableModel == null || employeeTableModel.getLoadedAt() == null || !employeeQuery.isDefault()
+                || employeeTable.getItems() != employeeTableModel.getItems()) {
+            loadEmployeeData();
+            return;
+        }
+        Instant since = employeeTableModel.getLoadedAt();
+        int fromId = employeeTableModel.getRefreshFromId();
+        int toId = employeeTableModel.getRefreshToId();
+        TableRefreshEvent event = new TableRefreshEvent(TableRefreshEvent.INCREMENTAL);
+        event.begin();
+        taskRunner.submit(TABLE_CHANNEL,
+                () -> employeeService.getEmployeeChanges(since, fromId, toId),
+                changes -> {
+                    employeeTableModel.applyChanges(changes);
+                    event.setRows(changes.changedEmployees().size());
+                    event.commit();
+                },
+                exception -> {
+                    log.error("Error during tableview refresh: {}", exception.getMessage());
+                    event.setFailed(true);
+                    event.commit();
+                });
+    }
+
+    /**
+     * Sets the queue the form submits employees to and receives the outcome of its batches.
+     *
+     * @param employeeWriteQueue The write-behind queue.
+     */
+    @Autowired
+    public void setEmployeeWriteQueue(EmployeeWriteQueue employeeWriteQueue) {
+        this.employeeWriteQueue = employeeWriteQueue;
+        employeeWriteQueue.setListener(this);
+    }
+
+    /**
+     * Queues a new or edited employee to be saved with the next batch and shows it in the table right away.
+     *
+     * @param employee The employee to save, without an ID if it is new.
+     */
+    public void submitEmployee(EmployeeDTO employee) {
+        log.debug(DATA_MARKER, "Submitting employee: {}", employee);
+        if (employeeTableModel != null) {
+            employeeTableModel.showPending(employee);
+        }
+        employeeWriteQueue.enqueue(employee);
+    }
+
+    /**
+     * Replaces the optimistically shown rows of the batch with the saved employees
+     * and refreshes the table with the changes made by others in the meantime.
+     */
+    @Override
+    public void batchWritten(List<EmployeeDTO> pending, List<EmployeeDTO> saved) {
+        log.info(DATA_MARKER, "{} submitted employees saved", saved.size());
+        if (employeeTableModel != null) {
+            employeeTableModel.confirmPending(pending, saved);
+        }
+        refreshTable();
+    }
+
+    /**
+     * Rolls the optimistically shown rows of the batch back. If an employee was changed or deleted by someone else
+     * in the meantime, the user is told so and the table is refreshed to show the current data.
+     */
+    @Override
+    public void batchFailed(List<EmployeeDTO> pending, Throwable exception) {
+        if (employeeTableModel != null) {
+            employeeTableModel.rollbackPending(pending);
+        }
+        if (exception instanceof OptimisticLockingFailureException) {
+            log.warn(DATA_MARKER, "Edit conflict, not saved: {}", pending);
+            showEditConflict(pending);
+            refreshTable();
+        } else {
+            log.error("Error saving {} submitted employees: {}", pending.size(), exception.getMessage());
+        }
+    }
+
+    /**
+     * Tells the user that their change of the given employees was not saved, because someone else
+     * changed or deleted them first.
+     *
+     * @param employees The employees whose change was rejected.
+     */
+    private void showEditConflict(List<EmployeeDTO> employees) {
+        Alert alert = new Alert(Alert.AlertType.WARNING);
+        alert.initOwner(mainStage);
+        alert.setTitle(I18NUtil.localize("conflictTitle"));
+        alert.setHeaderText(null);
+        alert.setContentText(I18NUtil.localize("conflictMessage", employees.stream()
+                .map(EmployeeDTO::lastName)
+                .collect(Collectors.joining(", "))));
+        alert.show();
+    }
+
+    /**
+     * Fetches the adjacent page in the background when a row at either end of the loaded window becomes visible.
+     * Once the page arrives, the viewport is shifted by the number of rows added or dropped at the head
+     * so that the user keeps looking at the same employees.
+     *
+     * @param index The index of the row that has just been laid out.
+     */
+    private void onRowIndexChanged(int index) {
+        if (pageLoadScheduled || employeeTableModel == null
+                || employeeTable.getItems() != employeeTableModel.getItems()) {
+            return;
+        }
+        int pageSize = employeeTableModel.getPageSize();
+        EmployeeQueryDTO query = employeeQuery;
+        int lastIndex = employeeTableModel.getItems().size() - 1;
+        if (index == lastIndex && employeeTableModel.isHasNextPage()) {
+            EmployeeDTO anchor = employeeTableModel.getNextPageAnchor();
+            pageLoadScheduled = true;
+            taskRunner.submit(TABLE_PAGE_CHANNEL,
+                    () -> employeeService.getEmployeesPage(query, anchor, pageSize),
+                    page -> {
+                        pageLoadScheduled = false;
+                        int dropped = employeeTableModel.appendPage(page);
+                        if (dropped > 0) {
+                            employeeTable.scrollTo(Math.max(0, index - dropped));
+                        }
+                    },
+                    this::onPageLoadFailure);
+        } else if (index == 0 && employeeTableModel.isHasPreviousPage()) {
+            EmployeeDTO anchor = employeeTableModel.getPreviousPageAnchor();
+            pageLoadScheduled = true;
+            taskRunner.submit(TABLE_PAGE_CHANNEL,
+                    () -> employeeService.getEmployeesPageBefore(query, anchor, pageSize),
+                    page -> {
+                        pageLoadScheduled = false;
+                        int inserted = employeeTableModel.prependPage(page);
+                        if (inserted > 0) {
+                            employeeTable.scrollTo(inserted);
+                        }
+                    },
+                    this::onPageLoadFailure);
+        }
+    }
+
+    /**
+     * Logs a failed page fetch and allows the next scroll to retry it.
+     *
+     * @param exception The exception thrown while fetching the page.
+     */
+    private void onPageLoadFailure(Throwable exception) {
+        pageLoadScheduled = false;
+        log.error("Error during tableview page loading: {}", exception.getMessage());
     }
 
     /**
@@ -186,8 +455,9 @@ public class MainController implements Initializable {
 
         deleteEmployeeButton.setOnMouseClicked(action -> {
             EmployeeDTO employeeToDelete = employeeTable.getSelectionModel().getSelectedItems().get(0);
-            employeeService.deleteEmployee(employeeToDelete.id());
-            refreshTable();
+            taskRunner.run(() -> employeeService.deleteEmployee(employeeToDelete.id()),
+                    this::refreshTable,
+                    exception -> log.error("Error deleting employee: {}", exception.getMessage()));
         });
 
         refreshTableButton.setOnMouseClicked(action -> refreshTable());
@@ -218,48 +488,48 @@ public class MainController implements Initializable {
      */
     protected void populateEmployeeTableFromList(List<EmployeeDTO> employees) {
         log.info("Populating tableview");
-        employeeTable.getItems().clear();
-        employeeTable.getItems().addAll(employees);
+        employeeTable.setItems(FXCollections.observableArrayList(employees));
     }
 
     /**
-     * Sets up and displays the menu pop-up window.
+     * Returns the rows shown in place of the paged employee list, such as a menu query result.
+     *
+     * @return A copy of the shown rows, or null if the table shows the paged employee list.
      */
-    private void setUpMenuPopUpFXML() {
-        log.info(UI_MARKER, "Loading MenuController.fxml");
+    public List<EmployeeDTO> getShownQueryResult() {
+        if (employeeTableModel != null && employeeTable.getItems() == employeeTableModel.getItems()) {
+            return null;
+        }
+        return List.copyOf(employeeTable.getItems());
+    }
+
+    /**
+     * Loads the menu and form pop-ups and builds their stages without showing them,
+     * so that the first click on the menu or add and update buttons does not pay for parsing the FXML and CSS.
+     * Called once the main stage is shown.
+     */
+    public void preloadPopUps() {
+        log.info(UI_MARKER, "Preloading pop-up views");
         try {
-            double mainX = mainStage.getX();
-            double mainY = mainStage.getY();
-            FXMLLoader loader = new FXMLLoader();
-            loader.setControllerFactory(applicationContext::getBean);
-            Parent parent = loader.load(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/ru/dev1art/ems/MenuController.fxml")));
-            menuController = loader.getController();
-            menuController.setMainController(this);
+            getMenuStage();
+            getFormStage();
+        } catch (IOException exception) {
+            log.error("Error during pop-up preloading: {}", exception.getMessage());
+        }
+    }
 
-            ScaleTransition st = new ScaleTransition(Duration.millis(100), parent);
-            st.setInterpolator(Interpolator.EASE_BOTH);
-            st.setFromX(0);
-            st.setFromY(0);
-            Stage menuStage = new Stage();
-            menuStage.initModality(Modality.NONE);
-            menuStage.initStyle(StageStyle.TRANSPARENT);
-            menuStage.initOwner(mainStage);
-            menuStage.setResizable(false);
-            Scene scene = new Scene(parent, 200, 178);
-            log.info(UI_MARKER, "Loading resource menuFxmlStyle.css");
-            scene.getStylesheets().add(Objects.requireNonNull(
-                    getClass().getResource("/ru/dev1art/ems/styles/menuFxmlStyle.css")).toExternalForm());
-            scene.setFill(Color.TRANSPARENT);
-            menuStage.focusedProperty().addListener((obs, wasFocused, isNowFocused) -> {
-                if (!isNowFocused) {
-                    menuStage.close();
-                }
-            });
-            menuStage.setScene(scene);
+    /**
+     * Sets up and displays the menu pop-up window. The view and its stage are created on first use
+     * and hidden rather than closed when the menu loses focus, then reused with a reset state.
+     */
+    private void setUpMenuPopUpFXML() {
+        log.info(UI_MARKER, "Showing menu pop-up");
+        try {
+            Stage menuStage = getMenuStage();
+            menuController.resetState();
             menuStage.show();
-            menuStage.setX(mainX + 700 + 5);
-            menuStage.setY(mainY);
+            menuStage.setX(mainStage.getX() + 700 + 5);
+            menuStage.setY(mainStage.getY());
         } catch (IOException exception) {
             log.error("Error during menu resources loading: {}", exception.getMessage());
         }
@@ -267,23 +537,18 @@ public class MainController implements Initializable {
 
     /**
      * Sets up and displays the form pop-up window for adding or editing
-     * an employee.
+     * an employee. The view and its stage are created on first use and reused afterwards,
+     * with the fields cleared before every show.
      *
      * @param isEditingMode Indicates whether the pop-up is for editing
      *                      an existing employee (true) or adding a new
      *                      employee (false).
      */
     private void setUpFormPopUpFXML(boolean isEditingMode) {
-        log.info(UI_MARKER, "Loading PopUpController.fxml");
+        log.info(UI_MARKER, "Showing form pop-up");
         try {
-            double mainX = mainStage.getX();
-            double mainY = mainStage.getY();
-            FXMLLoader loader = new FXMLLoader();
-            loader.setControllerFactory(applicationContext::getBean);
-            Parent parent = loader.load(Objects.requireNonNull(
-                    getClass().getResourceAsStream("/ru/dev1art/ems/PopUpController.fxml")));
-            popUpController = loader.getController();
-            popUpController.setMainController(this);
+            Stage formStage = getFormStage();
+            popUpController.resetForm();
             popUpController.setEditingMode(isEditingMode);
             if(isEditingMode) {
                 EmployeeDTO selectedEmployee = employeeTable.getSelectionModel().getSelectedItem();
@@ -291,34 +556,80 @@ public class MainController implements Initializable {
                     popUpController.populateTextFieldsForEditing(selectedEmployee);
                 }
             }
-            ScaleTransition st = new ScaleTransition(Duration.millis(100), parent);
-            st.setInterpolator(Interpolator.EASE_BOTH);
-            st.setFromX(0);
-            st.setFromY(0);
-            Stage addStage = new Stage();
-            addStage.initModality(Modality.NONE);
-            addStage.initStyle(StageStyle.TRANSPARENT);
-            addStage.initOwner(mainStage);
-            addStage.setResizable(false);
-            Scene scene = new Scene(parent, 150, 360);
-            log.info(UI_MARKER, "Loading resource popupFxmlStyle.css");
-            scene.getStylesheets().add(Objects.requireNonNull(
-                    getClass().getResource("/ru/dev1art/ems/styles/popupFxmlStyle.css")).toExternalForm());
-            scene.setFill(Color.TRANSPARENT);
-            addStage.focusedProperty().addListener((obs, wasFocused, isNowFocused) -> {
-                if (!isNowFocused) {
-                    addStage.close();
-                }
-            });
-            addStage.setScene(scene);
-            addStage.show();
-            addStage.setX(mainX - 150 - 5);
-            addStage.setY(mainY);
+            formStage.show();
+            formStage.setX(mainStage.getX() - 150 - 5);
+            formStage.setY(mainStage.getY());
         } catch (IOException exception) {
             log.error("Error during popup resources loading: {}", exception.getMessage());
         }
     }
 
+    /**
+     * Returns the stage of the menu pop-up, creating it on first use.
+     *
+     * @return The menu stage.
+     * @throws IOException if the menu view cannot be loaded.
+     */
+    private Stage getMenuStage() throws IOException {
+        if (menuStage == null) {
+            SpringFXMLLoader.View<MenuController> view =
+                    springFXMLLoader.loadView("/ru/dev1art/ems/MenuController.fxml");
+            menuController = view.controller();
+            menuController.setMainController(this);
+            menuStage = createPopUpStage(view.root(), 200, 178, "/ru/dev1art/ems/styles/menuFxmlStyle.css");
+        }
+        return menuStage;
+    }
+
+    /**
+     * Returns the stage of the form pop-up, creating it on first use.
+     *
+     * @return The form stage.
+     * @throws IOException if the form view cannot be loaded.
+     */
+    private Stage getFormStage() throws IOException {
+        if (formStage == null) {
+            SpringFXMLLoader.View<PopUpController> view =
+                    springFXMLLoader.loadView("/ru/dev1art/ems/PopUpController.fxml");
+            popUpController = view.controller();
+            popUpController.setMainController(this);
+            formStage = createPopUpStage(view.root(), 150, 360, "/ru/dev1art/ems/styles/popupFxmlStyle.css");
+        }
+        return formStage;
+    }
+
+    /**
+     * Creates a transparent pop-up stage owned by the main stage that hides itself when it loses focus.
+     *
+     * @param parent The root of the pop-up view.
+     * @param width The width of the scene.
+     * @param height The height of the scene.
+     * @param stylesheet The path to the stylesheet of the pop-up.
+     * @return The stage, not yet shown.
+     */
+    private Stage createPopUpStage(Parent parent, double width, double height, String stylesheet) {
+        ScaleTransition st = new ScaleTransition(Duration.millis(100), parent);
+        st.setInterpolator(Interpolator.EASE_BOTH);
+        st.setFromX(0);
+        st.setFromY(0);
+        Stage popUpStage = new Stage();
+        popUpStage.initModality(Modality.NONE);
+        popUpStage.initStyle(StageStyle.TRANSPARENT);
+        popUpStage.initOwner(mainStage);
+        popUpStage.setResizable(false);
+        Scene scene = new Scene(parent, width, height);
+        log.info(UI_MARKER, "Loading resource {}", stylesheet);
+        scene.getStylesheets().add(Objects.requireNonNull(getClass().getResource(stylesheet)).toExternalForm());
+        scene.setFill(Color.TRANSPARENT);
+        popUpStage.focusedProperty().addListener((obs, wasFocused, isNowFocused) -> {
+            if (!isNowFocused) {
+                popUpStage.hide();
+            }
+        });
+        popUpStage.setScene(scene);
+        return popUpStage;
+    }
+
     /**
      * Changes the language of the application by updating the text
      * properties of the UI elements based on the current locale.
@@ -326,23 +637,27 @@ public class MainController implements Initializable {
     public void changeLanguage() {
         log.info(UI_MARKER, "Binding text properties for elements in MainController.fxml");
         try {
-            addEmployeeButton.textProperty().bind(I18NUtil.createStringBinding("addEmployeeButton"));
-            deleteEmployeeButton.textProperty().bind(I18NUtil.createStringBinding("deleteEmployeeButton"));
-            updateEmployeeButton.textProperty().bind(I18NUtil.createStringBinding("updateEmployeeButton"));
-            refreshTableButton.textProperty().bind(I18NUtil.createStringBinding("refreshTableButton"));
-            languageChangerButton.textProperty().bind(I18NUtil.createStringBinding("languageChangerButton"));
-            exitButton.textProperty().bind(I18NUtil.createStringBinding("exitButton"));
-            menuButton.textProperty().bind(I18NUtil.createStringBinding("menuButton"));
-            lastNameColumn.textProperty().bind(I18NUtil.createStringBinding("lastNameColumn"));
-            positionColumn.textProperty().bind(I18NUtil.createStringBinding("positionColumn"));
-            birthDateColumn.textProperty().bind(I18NUtil.createStringBinding("birthDateColumn"));
-            hireDateColumn.textProperty().bind(I18NUtil.createStringBinding("hireDateColumn"));
-            departmentNumberColumn.textProperty().bind(I18NUtil.createStringBinding("departmentNumberColumn"));
-            salaryColumn.textProperty().bind(I18NUtil.createStringBinding("salaryColumn"));
+            addEmployeeButton.textProperty().bind(I18NUtil.getStringBinding("addEmployeeButton"));
+            deleteEmployeeButton.textProperty().bind(I18NUtil.getStringBinding("deleteEmployeeButton"));
+            updateEmployeeButton.textProperty().bind(I18NUtil.getStringBinding("updateEmployeeButton"));
+            refreshTableButton.textProperty().bind(I18NUtil.getStringBinding("refreshTableButton"));
+            languageChangerButton.textProperty().bind(I18NUtil.getStringBinding("languageChangerButton"));
+            exitButton.textProperty().bind(I18NUtil.getStringBinding("exitButton"));
+            menuButton.textProperty().bind(I18NUtil.getStringBinding("menuButton"));
+            filterField.promptTextProperty().bind(I18NUtil.getStringBinding("filterField"));
+            lastNameColumn.textProperty().bind(I18NUtil.getStringBinding("lastNameColumn"));
+            positionColumn.textProperty().bind(I18NUtil.getStringBinding("positionColumn"));
+            birthDateColumn.textProperty().bind(I18NUtil.getStringBinding("birthDateColumn"));
+            hireDateColumn.textProperty().bind(I18NUtil.getStringBinding("hireDateColumn"));
+            departmentNumberColumn.textProperty().bind(I18NUtil.getStringBinding("departmentNumberColumn"));
+            salaryColumn.textProperty().bind(I18NUtil.getStringBinding("salaryColumn"));
         } catch (Exception exception) {
             log.error("Error during properties binding for MainController.fxml: {}", exception.getMessage());
         }
     }
-}
-
 
+    /**
+     * The first page of the table together with the database time it was loaded at.
+     */
+    private record FirstPage(Instant loadedAt, List<EmployeeDTO> employees) { }
+}
@@ -1,11 +1,18 @@
 package ru.dev1art.ems.controllers;
 
+import jakarta.persistence.EntityNotFoundException;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
 import javafx.scene.control.TextField;
+import javafx.stage.FileChooser;
 import lombok.*;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
@@ -13,14 +20,22 @@ import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import ru.dev1art.ems.domain.dto.DepartmentStatisticsDTO;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.services.EmployeeExportService;
+import ru.dev1art.ems.services.EmployeeImportService;
 import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.util.async.FxTaskRunner;
+import ru.dev1art.ems.util.jfr.FlightRecordingManager;
 import ru.dev1art.ems.util.lang.I18NUtil;
 import ru.dev1art.ems.util.lang.LocaleChangeListener;
 import ru.dev1art.ems.util.lang.LocalizationManager;
+import java.io.File;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.util.*;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,6 +56,11 @@ public class MenuController implements Initializable, LocaleChangeListener {
     final Map<String, ShortcutProperties> shortcutOperations = new HashMap<>();
     @Getter @Setter MainController mainController;
     @Autowired EmployeeService employeeService;
+    @Autowired EmployeeImportService employeeImportService;
+    @Autowired EmployeeExportService employeeExportService;
+    @Autowired @Setter FxTaskRunner taskRunner;
+    @Autowired @Setter FlightRecordingManager flightRecordingManager;
+    static final String SHORTCUT_CHANNEL = "menuShortcut";
     static final Marker UI_MARKER = MarkerFactory.getMarker("UI");
     static final Marker DATA_MARKER = MarkerFactory.getMarker("DATA");
     static final Marker SERVICE_MARKER = MarkerFactory.getMarker("SERVICE");
@@ -49,6 +69,7 @@ public class MenuController implements Initializable, LocaleChangeListener {
      * Initializes the MenuController. This method is called after the FXML
      * file has been loaded and is used to set up localization, populate
      * the shortcuts combo box, and add action listeners to buttons.
+     * Locale changes are listened to only while the menu pop-up is showing.
      *
      * @param url The URL location of the FXML file that was loaded.
      * @param resourceBundle The ResourceBundle used to localize the FXML file.
@@ -57,7 +78,7 @@ public class MenuController implements Initializable, LocaleChangeListener {
     public void initialize(URL url, ResourceBundle resourceBundle) {
         log.info(UI_MARKER, "Initializing MenuController");
         try {
-            LocalizationManager.getInstance().addLocaleChangeListener(this);
+            LocalizationManager.getInstance().addLocaleChangeListener(this, valueField);
             changeLanguage();
 
             shortcutsComboBox.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
@@ -88,14 +109,25 @@ public class MenuController implements Initializable, LocaleChangeListener {
     private void changeLanguage() {
         log.info(UI_MARKER, "Binding text properties for elements in MenuController.fxml");
         try {
-            menuLabel.textProperty().bind(I18NUtil.createStringBinding("menuLabel"));
-            findButton.textProperty().bind(I18NUtil.createStringBinding("findButton"));
-            shortcutsComboBox.promptTextProperty().bind(I18NUtil.createStringBinding("comboBoxTitle"));
+            menuLabel.textProperty().bind(I18NUtil.getStringBinding("menuLabel"));
+            findButton.textProperty().bind(I18NUtil.getStringBinding("findButton"));
+            shortcutsComboBox.promptTextProperty().bind(I18NUtil.getStringBinding("comboBoxTitle"));
         } catch (Exception exception) {
             log.error("Error during properties binding for MenuController.fxml: {}", exception.getMessage());
         }
     }
 
+    /**
+     * Clears the selected shortcut and the entered value before the reused menu is shown again.
+     * The shortcuts are rebuilt, as their names are plain strings in the locale that was current when they were built.
+     */
+    protected void resetState() {
+        log.debug(UI_MARKER, "Resetting menu state");
+        valueField.clear();
+        populateShortcutsComboBox();
+        updateInputFieldState(null);
+    }
+
     /**
      * Populates the shortcuts combo box with available shortcut operations
      * and their corresponding properties.
@@ -105,28 +137,36 @@ public class MenuController implements Initializable, LocaleChangeListener {
         try {
             shortcutsComboBox.getItems().clear();
             shortcutOperations.clear();
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.findYounger").get(),
-                    new ShortcutProperties(I18NUtil.createStringBinding("shortcut.findYounger.prompt").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.findYounger"),
+                    new ShortcutProperties(I18NUtil.localize("shortcut.findYounger.prompt"),
                             this::findYounger, false));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.minSalary").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.minSalary"),
                     new ShortcutProperties("", this::findMinSalary, true));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.highestSalary").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.highestSalary"),
                     new ShortcutProperties("", this::findHighestSalary, true));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.workingSince").get(),
-                    new ShortcutProperties(I18NUtil.createStringBinding("shortcut.workingSince.prompt").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.workingSince"),
+                    new ShortcutProperties(I18NUtil.localize("shortcut.workingSince.prompt"),
                             this::findWorkingSince, false));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.olderThan").get(),
-                    new ShortcutProperties(I18NUtil.createStringBinding("shortcut.olderThan.prompt").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.olderThan"),
+                    new ShortcutProperties(I18NUtil.localize("shortcut.olderThan.prompt"),
                             this::findOlderThan, false));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.getCurrentAge").get(),
-                    new ShortcutProperties(I18NUtil.createStringBinding("shortcut.getCurrentAge.prompt").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.getCurrentAge"),
+                    new ShortcutProperties(I18NUtil.localize("shortcut.getCurrentAge.prompt"),
                             this::getAgeOfEmployee, false));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.getAgeAtHire").get(),
-                    new ShortcutProperties(I18NUtil.createStringBinding("shortcut.getAgeAtHire.prompt").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.getAgeAtHire"),
+                    new ShortcutProperties(I18NUtil.localize("shortcut.getAgeAtHire.prompt"),
                             this::getAgeOfEmployeeWhenHired, false));
-            shortcutOperations.put(I18NUtil.createStringBinding("shortcut.increaseSalary").get(),
-                    new ShortcutProperties(I18NUtil.createStringBinding("shortcut.increaseSalary.prompt").get(),
+            shortcutOperations.put(I18NUtil.localize("shortcut.increaseSalary"),
+                    new ShortcutProperties(I18NUtil.localize("shortcut.increaseSalary.prompt"),
                             this::increaseSalaryForLongTermEmployees, false));
+            shortcutOperations.put(I18NUtil.localize("shortcut.importCsv"),
+                    new ShortcutProperties("", this::importEmployeesFromCsv, true));
+            shortcutOperations.put(I18NUtil.localize("shortcut.exportCsv"),
+                    new ShortcutProperties("", this::exportEmployeesToCsv, true));
+            shortcutOperations.put(I18NUtil.localize("shortcut.departmentStatistics"),
+                    new ShortcutProperties("", this::showDepartmentStatistics, true));
+            shortcutOperations.put(I18NUtil.localize("shortcut.flightRecording"),
+                    new ShortcutProperties("", this::toggleFlightRecording, true));
             shortcutsComboBox.getItems().addAll(shortcutOperations.keySet());
         } catch (Exception exception) {
             log.error("Error during comboBox populating: {}", exception.getMessage());
@@ -194,9 +234,15 @@ public class MenuController implements Initializable, LocaleChangeListener {
         } else {
             log.warn("No match found for entered data");
         }
-        List<EmployeeDTO> employees = employeeService.getEmployeesInDepartmentYoungerThan(deptNo, age);
-        mainController.populateEmployeeTableFromList(employees);
-        log.info(DATA_MARKER, "Found {} employee(s) younger than {}", employees.size(), age);
+        Integer department = deptNo;
+        Integer maxAge = age;
+        taskRunner.submit(SHORTCUT_CHANNEL,
+                () -> employeeService.getEmployeesInDepartmentYoungerThan(department, maxAge),
+                employees -> {
+                    mainController.populateEmployeeTableFromList(employees);
+                    log.info(DATA_MARKER, "Found {} employee(s) younger than {}", employees.size(), maxAge);
+                },
+                this::onShortcutFailure);
     }
 
     /**
@@ -204,9 +250,13 @@ public class MenuController implements Initializable, LocaleChangeListener {
      */
     protected void findMinSalary() {
         log.debug(SERVICE_MARKER, "Finding employees with minimum salary");
-        List<EmployeeDTO> employees = employeeService.getEmployeesWithMinSalary();
-        mainController.populateEmployeeTableFromList(employees);
-        log.info(DATA_MARKER, "Found {} employees in department younger than entered value", employees.size());
+        taskRunner.submit(SHORTCUT_CHANNEL,
+                employeeService::getEmployeesWithMinSalary,
+                employees -> {
+                    mainController.populateEmployeeTableFromList(employees);
+                    log.info(DATA_MARKER, "Found {} employees with minimum salary", employees.size());
+                },
+                this::onShortcutFailure);
     }
 
     /**
@@ -214,9 +264,13 @@ public class MenuController implements Initializable, LocaleChangeListener {
      */
     protected void findHighestSalary() {
         log.debug(SERVICE_MARKER, "Finding employees with highest salary");
-        List<EmployeeDTO> employees = employeeService.getEmployeesWithMaxSalary();
-        mainController.populateEmployeeTableFromList(employees);
-        log.info(DATA_MARKER, "Found {} employees with highest salary", employees.size());
+        taskRunner.submit(SHORTCUT_CHANNEL,
+                employeeService::getEmployeesWithMaxSalary,
+                employees -> {
+                    mainController.populateEmployeeTableFromList(employees);
+                    log.info(DATA_MARKER, "Found {} employees with highest salary", employees.size());
+                },
+                this::onShortcutFailure);
     }
 
     /**
@@ -239,9 +293,14 @@ public class MenuController implements Initializable, LocaleChangeListener {
             return;
         }
 
-        List<EmployeeDTO> employees = employeeService.getLongTermEmployees(years);
-        mainController.populateEmployeeTableFromList(employees);
-        log.info(DATA_MARKER, "Found {} long-term employees ({} years)", employees.size(), years);
+        Integer yearsWorked = years;
+        taskRunner.submit(SHORTCUT_CHANNEL,
+                () -> employeeService.getLongTermEmployees(yearsWorked),
+                employees -> {
+                    mainController.populateEmployeeTableFromList(employees);
+                    log.info(DATA_MARKER, "Found {} long-term employees ({} years)", employees.size(), yearsWorked);
+                },
+                this::onShortcutFailure);
     }
 
     /**
@@ -264,9 +323,14 @@ public class MenuController implements Initializable, LocaleChangeListener {
             return;
         }
 
-        List<EmployeeDTO> employees = employeeService.findOldEmployees(years);
-        mainController.populateEmployeeTableFromList(employees);
-        log.info(DATA_MARKER, "Found {} employees older than {} years", employees.size(), years);
+        Integer age = years;
+        taskRunner.submit(SHORTCUT_CHANNEL,
+                () -> employeeService.findOldEmployees(age),
+                employees -> {
+                    mainController.populateEmployeeTableFromList(employees);
+                    log.info(DATA_MARKER, "Found {} employees older than {} years", employees.size(), age);
+                },
+                this::onShortcutFailure);
     }
 
     /**
@@ -276,19 +340,15 @@ public class MenuController implements Initializable, LocaleChangeListener {
         log.debug(SERVICE_MARKER, "Getting current age of employee");
         try {
             Integer employeeID = Integer.parseInt(valueField.getText());
-            EmployeeDTO employee = employeeService.findById(employeeID);
-
-            if (employee == null) {
-                log.warn(DATA_MARKER, "Employee not found for ID: {}", employeeID);
-                valueField.setText("Employee not found");
-                return;
-            }
-
-            Integer age = employeeService.getCurrentAge(employee);
-            valueField.setText(I18NUtil.createStringBinding("shortcut.getCurrentAge.answer").get() + ": " + age);
-            valueField.setEditable(false);
-            log.info(DATA_MARKER, "Current age of employee {} is {}", employeeID, age);
-
+            taskRunner.submit(SHORTCUT_CHANNEL,
+                    () -> employeeService.findById(employeeID),
+                    employee -> {
+                        Integer age = employeeService.getCurrentAge(employee);
+                        valueField.setText(I18NUtil.localize("shortcut.getCurrentAge.answer") + ": " + age);
+                        valueField.setEditable(false);
+                        log.info(DATA_MARKER, "Current age of employee {} is {}", employeeID, age);
+                    },
+                    exception -> onEmployeeLookupFailure(employeeID, exception));
         } catch (NumberFormatException e) {
             log.error("Invalid employee ID: {}", valueField.getText(), e);
         }
@@ -301,18 +361,15 @@ public class MenuController implements Initializable, LocaleChangeListener {
         log.debug(SERVICE_MARKER, "Getting age of employee at hire date");
         try {
             Integer employeeID = Integer.parseInt(valueField.getText());
-            EmployeeDTO employee = employeeService.findById(employeeID);
-            if (employee == null) {
-                log.warn(DATA_MARKER, "Employee not found for ID: {}", employeeID);
-                valueField.setText("Employee not found");
-                return;
-            }
-
-            Integer ageAtHire = employeeService.getAgeAtHire(employee);
-            valueField.setText(I18NUtil.createStringBinding("shortcut.getAgeAtHire.answer").get() + ": " + ageAtHire);
-            valueField.setEditable(false);
-            log.info(DATA_MARKER, "Age at hire date for employee {} is {}", employeeID, ageAtHire);
-
+            taskRunner.submit(SHORTCUT_CHANNEL,
+                    () -> employeeService.findById(employeeID),
+                    employee -> {
+                        Integer ageAtHire = employeeService.getAgeAtHire(employee);
+                        valueField.setText(I18NUtil.localize("shortcut.getAgeAtHire.answer") + ": " + ageAtHire);
+                        valueField.setEditable(false);
+                        log.info(DATA_MARKER, "Age at hire date for employee {} is {}", employeeID, ageAtHire);
+                    },
+                    exception -> onEmployeeLookupFailure(employeeID, exception));
         } catch (NumberFormatException e) {
             log.error("Invalid employee ID: {}", valueField.getText(), e);
         }
@@ -320,7 +377,8 @@ public class MenuController implements Initializable, LocaleChangeListener {
 
     /**
      * Increases the salary of long-term employees based on a specified
-     * percentage increase and number of years.
+     * percentage increase and number of years. The raise is a write, so it runs on no channel
+     * and can not be cancelled by another shortcut.
      */
     protected void increaseSalaryForLongTermEmployees() {
         log.debug(SERVICE_MARKER, "Increasing salary for long-term employees");
@@ -341,9 +399,222 @@ public class MenuController implements Initializable, LocaleChangeListener {
             return;
         }
 
-        List<EmployeeDTO> employees = employeeService.increaseSalaryForLongTermEmployees(percentageIncrease, years);
-        mainController.populateEmployeeTableFromList(employees);
-        log.info(DATA_MARKER, "Increased salary for {} long-term employees ({} years, {}% increase)",
-                employees.size(), years, percentageIncrease);
+        BigDecimal percentage = percentageIncrease;
+        Integer yearsWorked = years;
+        taskRunner.submit(null,
+                () -> employeeService.increaseSalaryForLongTermEmployees(percentage, yearsWorked),
+                employees -> {
+                    mainController.populateEmployeeTableFromList(employees);
+                    log.info(DATA_MARKER, "Increased salary for {} long-term employees ({} years, {}% increase)",
+                            employees.size(), yearsWorked, percentage);
+                },
+                this::onShortcutFailure);
+    }
+
+    /**
+     * Imports employees from a CSV file chosen by the user and refreshes the employee table.
+     * Rejected records are written next to the chosen file. The import is a write, so it runs on no channel
+     * and can not be cancelled by another shortcut.
+     */
+    protected void importEmployeesFromCsv() {
+        log.debug(SERVICE_MARKER, "Importing employees from CSV file");
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle(I18NUtil.localize("shortcut.importCsv"));
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        File csvFile = fileChooser.showOpenDialog(findButton.getScene().getWindow());
+        if (csvFile == null) {
+            log.info(UI_MARKER, "CSV import cancelled");
+            return;
+        }
+
+        taskRunner.submit(null,
+                () -> employeeImportService.importCsv(csvFile.toPath()),
+                result -> {
+                    valueField.setText(I18NUtil.localize("shortcut.importCsv.answer") + ": "
+                            + result.importedRows() + ", "
+                            + I18NUtil.localize("shortcut.importCsv.rejected") + ": "
+                            + result.rejectedRows());
+                    mainController.refreshTable();
+                    log.info(DATA_MARKER, "Imported {} employees from {}, rejected {}",
+                            result.importedRows(), csvFile, result.rejectedRows());
+                },
+                exception -> showFileShortcutFailure("shortcut.importCsv", csvFile, exception));
+    }
+
+    /**
+     * Exports the employees shown in the table to a CSV file chosen by the user. A menu query result is exported
+     * as shown, the employee list is streamed from the database with the table's current sort order and filter.
+     * The export runs on no channel, so that another shortcut can not cut the file short.
+     */
+    protected void exportEmployeesToCsv() {
+        log.debug(SERVICE_MARKER, "Exporting employees to CSV file");
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle(I18NUtil.localize("shortcut.exportCsv"));
+        fileChooser.setInitialFileName("employees.csv");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CSV", "*.csv"));
+        File csvFile = fileChooser.showSaveDialog(findButton.getScene().getWindow());
+        if (csvFile == null) {
+            log.info(UI_MARKER, "CSV export cancelled");
+            return;
+        }
+
+        List<EmployeeDTO> queryResult = mainController.getShownQueryResult();
+        EmployeeQueryDTO query = mainController.getEmployeeQuery();
+        taskRunner.submit(null,
+                () -> queryResult != null
+                        ? employeeExportService.exportCsv(queryResult, csvFile.toPath())
+                        : employeeExportService.exportCsv(query, csvFile.toPath()),
+                rows -> {
+                    valueField.setText(I18NUtil.localize("shortcut.exportCsv.answer") + ": " + rows);
+                    log.info(DATA_MARKER, "Exported {} employees to {}", rows, csvFile);
+                },
+                exception -> showFileShortcutFailure("shortcut.exportCsv", csvFile, exception));
+    }
+
+    /**
+     * Shows payroll statistics per department. The statistics are computed by the database,
+     * no employees are loaded.
+     */
+    protected void showDepartmentStatistics() {
+        log.debug(SERVICE_MARKER, "Showing department statistics");
+        taskRunner.submit(SHORTCUT_CHANNEL,
+                employeeService::getDepartmentStatistics,
+                statistics -> {
+                    showStatisticsDialog(statistics);
+                    log.info(DATA_MARKER, "Showing statistics for {} departments", Math.max(0, statistics.size() - 1));
+                },
+                this::onShortcutFailure);
+    }
+
+    /**
+     * Starts a flight recording, or stops the running one and saves it to a file chosen by the user.
+     * Both run in the background on no channel, so that another shortcut can not cancel them halfway.
+     */
+    protected void toggleFlightRecording() {
+        if (!flightRecordingManager.isRecording()) {
+            taskRunner.submit(null,
+                    () -> {
+                        flightRecordingManager.start();
+                        return true;
+                    },
+                    started -> valueField.setText(
+                            I18NUtil.localize("shortcut.flightRecording.started")),
+                    this::onShortcutFailure);
+            return;
+        }
+
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle(I18NUtil.localize("shortcut.flightRecording"));
+        fileChooser.setInitialFileName("ems.jfr");
+        fileChooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("JFR", "*.jfr"));
+        File jfrFile = fileChooser.showSaveDialog(findButton.getScene().getWindow());
+        if (jfrFile == null) {
+            log.info(UI_MARKER, "Saving flight recording cancelled, still recording");
+            return;
+        }
+
+        taskRunner.submit(null,
+                () -> {
+                    flightRecordingManager.dumpAndStop(jfrFile.toPath());
+                    return jfrFile;
+                },
+                savedFile -> valueField.setText(I18NUtil.localize("shortcut.flightRecording.answer")
+                        + ": " + savedFile.getName()),
+                exception -> showFileShortcutFailure("shortcut.flightRecording", jfrFile, exception));
+    }
+
+    /**
+     * Shows the statistics in a table inside a dialog owned by the menu window.
+     *
+     * @param statistics The statistics per department, followed by the statistics of all departments.
+     */
+    private void showStatisticsDialog(List<DepartmentStatisticsDTO> statistics) {
+        String allDepartments = I18NUtil.localize("shortcut.departmentStatistics.allDepartments");
+        TableView<DepartmentStatisticsDTO> table = new TableView<>(FXCollections.observableArrayList(statistics));
+        table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY_FLEX_LAST_COLUMN);
+        table.getColumns().addAll(List.of(
+                statisticsColumn("shortcut.departmentStatistics.department",
+                        row -> row.allDepartments() ? allDepartments : row.departmentNumber()),
+                statisticsColumn("shortcut.departmentStatistics.headcount", DepartmentStatisticsDTO::headcount),
+                statisticsColumn("shortcut.departmentStatistics.totalSalary", DepartmentStatisticsDTO::totalSalary),
+                statisticsColumn("shortcut.departmentStatistics.averageSalary", DepartmentStatisticsDTO::averageSalary),
+                statisticsColumn("shortcut.departmentStatistics.medianSalary", DepartmentStatisticsDTO::medianSalary),
+                statisticsColumn("shortcut.departmentStatistics.salary90thPercentile",
+                        DepartmentStatisticsDTO::salary90thPercentile),
+                statisticsColumn("shortcut.departmentStatistics.averageTenure", row -> row.averageTenureYears() == null
+                        ? null : String.format("%.1f", row.averageTenureYears()))));
+
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.initOwner(findButton.getScene().getWindow());
+        alert.setTitle(I18NUtil.localize("shortcut.departmentStatistics"));
+        alert.setHeaderText(null);
+        alert.getDialogPane().setContent(table);
+        alert.getDialogPane().setPrefWidth(760);
+        alert.show();
+    }
+
+    private TableColumn<DepartmentStatisticsDTO, Object> statisticsColumn(
+            String key, Function<DepartmentStatisticsDTO, Object> value) {
+        TableColumn<DepartmentStatisticsDTO, Object> column =
+                new TableColumn<>(I18NUtil.localize(key));
+        column.setCellValueFactory(cellData -> new SimpleObjectProperty<>(value.apply(cellData.getValue())));
+        column.setSortable(false);
+        return column;
+    }
+
+    /**
+     * Reports that no employee exists for the entered ID.
+     *
+     * @param employeeID The ID that was looked up.
+     */
+    private void showEmployeeNotFound(Integer employeeID) {
+        log.warn(DATA_MARKER, "Employee not found for ID: {}", employeeID);
+        valueField.setText(I18NUtil.localize("shortcut.employeeNotFound"));
+    }
+
+    /**
+     * Reports a failed lookup of an employee by ID. Only a missing employee is reported as not found.
+     *
+     * @param employeeID The ID that was looked up.
+     * @param exception The exception thrown by the lookup.
+     */
+    private void onEmployeeLookupFailure(Integer employeeID, Throwable exception) {
+        if (exception instanceof EntityNotFoundException) {
+            showEmployeeNotFound(employeeID);
+        } else {
+            onShortcutFailure(exception);
+        }
+    }
+
+    /**
+     * Logs a shortcut operation that failed in the background and shows the failure in the value field.
+     *
+     * @param exception The exception thrown by the operation.
+     */
+    private void onShortcutFailure(Throwable exception) {
+        log.error("Error during shortcut operation: {}", exception.getMessage());
+        valueField.setText(I18NUtil.localize("shortcut.failed") + ": " + failureMessage(exception));
+    }
+
+    /**
+     * Reports a shortcut reading or writing a file that failed in the background, in the value field and
+     * in a dialog owned by the menu window, so that it can not be taken for one that did nothing.
+     *
+     * @param shortcutKey The localization key of the shortcut.
+     * @param file The file the shortcut read or wrote.
+     * @param exception The exception thrown by the operation.
+     */
+    private void showFileShortcutFailure(String shortcutKey, File file, Throwable exception) {
+        onShortcutFailure(exception);
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.initOwner(findButton.getScene().getWindow());
+        alert.setTitle(I18NUtil.localize(shortcutKey));
+        alert.setHeaderText(null);
+        alert.setContentText(I18NUtil.localize("shortcut.fileFailed", file.getName(), failureMessage(exception)));
+        alert.show();
+    }
+
+    private static String failureMessage(Throwable exception) {
+        return exception.getMessage() != null ? exception.getMessage() : exception.getClass().getSimpleName();
     }
 }
@@ -58,6 +58,7 @@ public class PopUpController implements Initializable, LocaleChangeListener {
     /**
      * Initializes the PopUpController. This method is called after the FXML
      * file has been loaded and is used to set up localization and event handlers.
+     * Locale changes are listened to only while the form pop-up is showing.
      *
      * @param url The URL location of the FXML file that was loaded.
      * @param resourceBundle The ResourceBundle used to localize the FXML file.
@@ -65,13 +66,14 @@ public class PopUpController implements Initializable, LocaleChangeListener {
     @Override
     public void initialize(URL url, ResourceBundle resourceBundle) {
         log.info(UI_MARKER, "Initializing PopUpController");
-        LocalizationManager.getInstance().addLocaleChangeListener(this);
+        LocalizationManager.getInstance().addLocaleChangeListener(this, submitButton);
         changeLanguage();
         submitButton.setOnMouseClicked(action -> handleSubmit());
     }
 
     /**
-     * Adds a new employee using the data from the input fields.
+     * Adds a new employee using the data from the input fields. The employee is shown in the table
+     * right away and saved with the next batch of the write-behind queue.
      * Logs the operation and handles any exceptions that may occur.
      */
     protected void addEmployee() {
@@ -87,16 +89,16 @@ public class PopUpController implements Initializable, LocaleChangeListener {
                 return;
             }
 
-            employeeService.saveEmployee(newEmployee);
-            mainController.refreshTable();
-            log.info(DATA_MARKER, "New employee added: {}", newEmployee);
+            mainController.submitEmployee(newEmployee);
+            log.info(DATA_MARKER, "New employee submitted: {}", newEmployee);
         } catch (Exception e) {
             log.error("Error adding employee:", e);
         }
     }
 
     /**
-     * Updates the existing employee with new data from the input fields.
+     * Updates the existing employee with new data from the input fields. The change is shown in the table
+     * right away and saved with the next batch of the write-behind queue.
      * If the employee to update is null, logs a warning.
      */
     protected void updateEmployee() {
@@ -107,9 +109,8 @@ public class PopUpController implements Initializable, LocaleChangeListener {
                         lastNameField.getText(), positionField.getText(), birthDateField.getText(),
                         hireDateField.getText(), departmentNumberField.getText(), salaryField.getText()
                 ));
-                employeeService.saveEmployee(updatedEmployee);
-                mainController.refreshTable();
-                log.info(DATA_MARKER, "Employee updated: {}", updatedEmployee);
+                mainController.submitEmployee(updatedEmployee);
+                log.info(DATA_MARKER, "Employee update submitted: {}", updatedEmployee);
             } catch (Exception e) {
                 log.error("Error updating employee:", e);
             }
@@ -136,6 +137,21 @@ public class PopUpController implements Initializable, LocaleChangeListener {
         this.employeeToUpdate = employeeDTO;
     }
 
+    /**
+     * Clears the input fields and forgets the employee being edited, so that a reused form
+     * does not show the values entered the last time it was open.
+     */
+    protected void resetForm() {
+        log.debug(UI_MARKER, "Resetting form");
+        lastNameField.clear();
+        positionField.clear();
+        birthDateField.clear();
+        hireDateField.clear();
+        departmentNumberField.clear();
+        salaryField.clear();
+        employeeToUpdate = null;
+    }
+
     /**
      * Handles the submission of the form. Depending on the editing mode,
      * it either adds a new employee or updates an existing employee.
@@ -157,14 +173,14 @@ public class PopUpController implements Initializable, LocaleChangeListener {
     public void changeLanguage() {
         log.debug(UI_MARKER, "Changing UI language");
 
-        submitButton.textProperty().bind(I18NUtil.createStringBinding("submitButton"));
-        popUpTitle.textProperty().bind(I18NUtil.createStringBinding("popUpTitle"));
-        lastNameLabel.textProperty().bind(I18NUtil.createStringBinding("lastNameLabel"));
-        positionLabel.textProperty().bind(I18NUtil.createStringBinding("positionLabel"));
-        birthDateLabel.textProperty().bind(I18NUtil.createStringBinding("birthDateLabel"));
-        hireDateLabel.textProperty().bind(I18NUtil.createStringBinding("hireDateLabel"));
-        departmentNumberLabel.textProperty().bind(I18NUtil.createStringBinding("departmentNumberLabel"));
-        salaryLabel.textProperty().bind(I18NUtil.createStringBinding("salaryLabel"));
+        submitButton.textProperty().bind(I18NUtil.getStringBinding("submitButton"));
+        popUpTitle.textProperty().bind(I18NUtil.getStringBinding("popUpTitle"));
+        lastNameLabel.textProperty().bind(I18NUtil.getStringBinding("lastNameLabel"));
+        positionLabel.textProperty().bind(I18NUtil.getStringBinding("positionLabel"));
+        birthDateLabel.textProperty().bind(I18NUtil.getStringBinding("birthDateLabel"));
+        hireDateLabel.textProperty().bind(I18NUtil.getStringBinding("hireDateLabel"));
+        departmentNumberLabel.textProperty().bind(I18NUtil.getStringBinding("departmentNumberLabel"));
+        salaryLabel.textProperty().bind(I18NUtil.getStringBinding("salaryLabel"));
     }
 
     /**
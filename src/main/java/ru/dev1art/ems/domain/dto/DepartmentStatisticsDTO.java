@@ -0,0 +1,42 @@
+package ru.dev1art.ems.domain.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Payroll statistics of one department, or of all departments together.
+ *
+ * @param departmentNumber The department number, null for the company-wide row or employees without a department.
+ * @param allDepartments Whether this row covers all departments.
+ * @param headcount The number of employees.
+ * @param totalSalary The sum of the salaries.
+ * @param averageSalary The average salary.
+ * @param medianSalary The median salary.
+ * @param salary90thPercentile The salary that 90% of the employees earn at most.
+ * @param averageTenureDays The average number of days since hire.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public record DepartmentStatisticsDTO(
+        Integer departmentNumber,
+        boolean allDepartments,
+        long headcount,
+        BigDecimal totalSalary,
+        BigDecimal averageSalary,
+        BigDecimal medianSalary,
+        BigDecimal salary90thPercentile,
+        Double averageTenureDays
+) {
+    static final double DAYS_PER_YEAR = 365.2425;
+
+    /**
+     * Returns the average tenure in years.
+     *
+     * @return The average number of years since hire, or null if no employee has a hire date.
+     */
+    public Double averageTenureYears() {
+        return averageTenureDays == null ? null : averageTenureDays / DAYS_PER_YEAR;
+    }
+}
@@ -0,0 +1,29 @@
+package ru.dev1art.ems.domain.dto;
+
+import lombok.Builder;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Changes made to a range of employees since a point in time, used to refresh the table incrementally.
+ *
+ * @param loadedAt The database time at which the changes were read, the starting point of the next refresh.
+ * @param fromId The lowest ID of the range, inclusive.
+ * @param toId The highest ID of the range, inclusive.
+ * @param changedEmployees Employees inserted or updated in the range since the requested time, in ascending ID order.
+ * @param presentIds IDs of all employees that still exist in the range, in ascending order.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Builder
+public record EmployeeChangesDTO(
+        Instant loadedAt,
+        Integer fromId,
+        Integer toId,
+        List<EmployeeDTO> changedEmployees,
+        List<Integer> presentIds
+) {
+}
@@ -31,6 +31,7 @@ public record EmployeeDTO(
         @DecimalMin(value = "0.0", inclusive = false)
         @DecimalMax(value = "1000000.0", inclusive = false)
         @Digits(integer = 7, fraction = 2)
-        BigDecimal salary
+        BigDecimal salary,
+        Long version
 ) {
 }
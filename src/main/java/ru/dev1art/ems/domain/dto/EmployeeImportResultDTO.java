@@ -0,0 +1,35 @@
+package ru.dev1art.ems.domain.dto;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outcome of a bulk import of employees.
+ *
+ * @param importedRows The number of employees inserted or updated.
+ * @param rejectedRows The number of input records that failed validation.
+ * @param rejectFile The file the rejected records were written to, or null if there were none.
+ * @param elapsed The time the import took.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public record EmployeeImportResultDTO(
+        int importedRows,
+        int rejectedRows,
+        Path rejectFile,
+        Duration elapsed
+) {
+
+    /**
+     * Returns the import throughput.
+     *
+     * @return The number of rows imported per second.
+     */
+    public double rowsPerSecond() {
+        long nanos = Math.max(1, elapsed.toNanos());
+        return importedRows * 1_000_000_000d / nanos;
+    }
+}
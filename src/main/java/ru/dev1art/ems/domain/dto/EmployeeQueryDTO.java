@@ -0,0 +1,41 @@
+package ru.dev1art.ems.domain.dto;
+
+import lombok.Builder;
+
+/**
+ * Sort order and filter applied to the employee table, evaluated by the database.
+ *
+ * @param sortField The attribute to sort by. Ties are broken by ID in the same direction.
+ * @param ascending Whether to sort in ascending order.
+ * @param filterText Text matched against last name and position, or against ID and department number
+ *                   if it is a number. Null or blank for no filter.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Builder(toBuilder = true)
+public record EmployeeQueryDTO(
+        EmployeeSortField sortField,
+        boolean ascending,
+        String filterText
+) {
+    public static final EmployeeQueryDTO DEFAULT = new EmployeeQueryDTO(EmployeeSortField.ID, true, null);
+
+    public EmployeeQueryDTO {
+        if (sortField == null) {
+            sortField = EmployeeSortField.ID;
+        }
+        filterText = filterText == null || filterText.isBlank() ? null : filterText.strip();
+    }
+
+    /**
+     * Tells whether this is the table's natural order: ascending by ID without a filter.
+     *
+     * @return True for the natural order.
+     */
+    public boolean isDefault() {
+        return sortField == EmployeeSortField.ID && ascending && filterText == null;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.dev1art.ems.domain.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import java.util.function.Function;
+
+/**
+ * Employee attributes the table can be sorted by, with the entity property each one maps to.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Getter
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public enum EmployeeSortField {
+    ID("id", EmployeeDTO::id),
+    LAST_NAME("lastName", EmployeeDTO::lastName),
+    POSITION("position", EmployeeDTO::position),
+    BIRTH_DATE("birthDate", EmployeeDTO::birthDate),
+    HIRE_DATE("hireDate", EmployeeDTO::hireDate),
+    DEPARTMENT_NUMBER("departmentNumber", EmployeeDTO::departmentNumber),
+    SALARY("salary", EmployeeDTO::salary);
+
+    String property;
+    @Getter(AccessLevel.NONE) Function<EmployeeDTO, ? extends Comparable<?>> extractor;
+
+    /**
+     * Returns the value of this attribute for the given employee.
+     *
+     * @param employeeDTO The employee.
+     * @return The attribute value, possibly null.
+     */
+    public Comparable<?> valueOf(EmployeeDTO employeeDTO) {
+        return extractor.apply(employeeDTO);
+    }
+}
@@ -3,7 +3,10 @@ package ru.dev1art.ems.domain.model;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.ColumnTransformer;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -15,10 +18,22 @@ import java.time.LocalDate;
 @Data
 @Entity
 @NoArgsConstructor
-@Table(name = "employee")
+@Table(name = "employee", indexes = {
+        @Index(name = "idx_employee_department_birth_date", columnList = "departmentNumber, birthDate"),
+        @Index(name = "idx_employee_birth_date", columnList = "birthDate"),
+        @Index(name = "idx_employee_hire_date", columnList = "hireDate"),
+        @Index(name = "idx_employee_updated_at", columnList = "updatedAt"),
+        @Index(name = "idx_employee_salary_id", columnList = "salary, id")
+})
 public class Employee {
+    /**
+     * ids are drawn from a pooled sequence, one round trip per this many inserts; unlike IDENTITY this lets
+     * Hibernate assign ids before the insert and therefore group inserts into JDBC batches
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+    @SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id", nullable = false)
     private Integer id;
     @Column(name = "lastName")
@@ -33,4 +48,21 @@ public class Employee {
     private Integer departmentNumber;
     @Column(name = "salary")
     private BigDecimal salary;
+    /**
+     * stamped with the database clock on every insert and update. Written through a column transformer
+     * rather than @UpdateTimestamp(source = DB), which reads the value back with RETURNING and thereby
+     * disables insert batching; the placeholder is only there because Hibernate requires one
+     */
+    @ColumnTransformer(write = "coalesce(current_timestamp, ?)")
+    @Column(name = "updatedAt")
+    private Instant updatedAt;
+    /**
+     * optimistic lock: every update checks and increments it, so saving an employee that someone else has
+     * changed or deleted since it was read fails instead of silently overwriting their change.
+     * Defaults to 0 so that the column can be added to a table that already has rows
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
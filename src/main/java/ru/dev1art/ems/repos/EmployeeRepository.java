@@ -1,11 +1,18 @@
 package ru.dev1art.ems.repos;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import ru.dev1art.ems.domain.dto.DepartmentStatisticsDTO;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
 import ru.dev1art.ems.domain.model.Employee;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * @author Dev1Art
@@ -14,24 +21,111 @@ import java.util.List;
  */
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>, EmployeeRepositoryCustom {
 
     /**
-     * incorporate native SQL within JPQL query using FUNCTION()
+     * read queries select straight into EmployeeDTO via a constructor expression: rows never become managed
+     * entities, so there is no persistence context snapshot to keep or dirty-check and no second object to map
      */
-    @Query("SELECT e FROM Employee e WHERE e.departmentNumber = :deptNo " +
-            "AND FUNCTION('DATEDIFF', YEAR, e.birthDate, CURRENT_DATE) < :age")
-    List<Employee> findEmployeesInDepartmentYoungerThan(@Param("deptNo") Integer deptNo, @Param("age") Integer age);
+    String SELECT_DTO = "SELECT new ru.dev1art.ems.domain.dto.EmployeeDTO(e.id, e.lastName, e.position, " +
+            "e.birthDate, e.hireDate, e.departmentNumber, e.salary, e.version) FROM Employee e ";
 
-    @Query("SELECT e FROM Employee e ORDER BY e.salary DESC LIMIT 5")
-    List<Employee> findTop5BySalaryDesc();
+    @Query(SELECT_DTO + "WHERE e.id = :id")
+    Optional<EmployeeDTO> findDtoById(@Param("id") Integer id);
 
-    @Query("SELECT e FROM Employee e ORDER BY e.salary ASC LIMIT 5")
-    List<Employee> findTop5BySalaryAsc();
+    @Query(SELECT_DTO)
+    List<EmployeeDTO> findAllDtos();
 
-    @Query("SELECT e FROM Employee e WHERE FUNCTION('DATEDIFF', YEAR, e.hireDate, CURRENT_DATE) >= :years")
-    List<Employee> findEmployeesWorkingForGivenAmountOfYearsOrMore(@Param("years") Integer years);
+    /**
+     * age and tenure filters compare the raw date column with a cutoff computed by the caller,
+     * so the predicates stay sargable and are answered by range scans on the entity indexes
+     */
+    @Query(SELECT_DTO + "WHERE e.departmentNumber = :deptNo AND e.birthDate > :bornAfter")
+    List<EmployeeDTO> findEmployeesInDepartmentBornAfter(@Param("deptNo") Integer deptNo,
+                                                         @Param("bornAfter") LocalDate bornAfter);
+
+    /**
+     * salary ranking, ties broken by id so the order is total and matches SalaryRankingIndex;
+     * both ends are read from the (salary, id) index, backwards for the highest salaries
+     */
+    @Query(SELECT_DTO + "WHERE e.salary IS NOT NULL ORDER BY e.salary DESC, e.id DESC")
+    List<EmployeeDTO> findHighestSalaries(Limit limit);
+
+    @Query(SELECT_DTO + "WHERE e.salary IS NOT NULL ORDER BY e.salary ASC, e.id ASC")
+    List<EmployeeDTO> findLowestSalaries(Limit limit);
 
-    @Query("SELECT e FROM Employee e WHERE FUNCTION('DATEDIFF', YEAR, e.birthDate, CURRENT_DATE) > :age")
-    List<Employee> findEmployeesOlderThan(@Param("age") Integer age);
-}
\ No newline at end of file
+    /**
+     * payroll statistics per department in a single scan: ROLLUP adds the company-wide row (grouping = 1) to the
+     * same GROUP BY, so its percentiles come from the same pass instead of a second query, and no rows leave the database
+     */
+    @Query("SELECT new ru.dev1art.ems.domain.dto.DepartmentStatisticsDTO(e.departmentNumber, " +
+            "CASE WHEN cast(grouping(e.departmentNumber) AS Integer) = 1 THEN true ELSE false END, " +
+            "count(e), sum(e.salary), " +
+            "cast(avg(e.salary) AS BigDecimal), " +
+            "cast(percentile_cont(0.5) WITHIN GROUP (ORDER BY e.salary) AS BigDecimal), " +
+            "cast(percentile_cont(0.9) WITHIN GROUP (ORDER BY e.salary) AS BigDecimal), " +
+            "avg((local date - e.hireDate) BY DAY)) " +
+            "FROM Employee e GROUP BY rollup(e.departmentNumber) " +
+            "ORDER BY grouping(e.departmentNumber), e.departmentNumber NULLS LAST")
+    List<DepartmentStatisticsDTO> findDepartmentStatistics();
+
+    @Query(SELECT_DTO + "WHERE e.hireDate <= :hiredOnOrBefore")
+    List<EmployeeDTO> findEmployeesHiredOnOrBefore(@Param("hiredOnOrBefore") LocalDate hiredOnOrBefore);
+
+    @Query(SELECT_DTO + "WHERE e.birthDate <= :bornOnOrBefore")
+    List<EmployeeDTO> findEmployeesBornOnOrBefore(@Param("bornOnOrBefore") LocalDate bornOnOrBefore);
+
+    /**
+     * set-based raise: a single UPDATE applies the factor to every eligible row and RETURNING hands
+     * the updated rows back in the same round trip. Deliberately not @Modifying, since that executes
+     * the statement via executeUpdate() and would discard the RETURNING result set.
+     * Must run in a transaction that has not loaded the affected rows yet, otherwise Hibernate hands back
+     * the already managed (stale) instances.
+     */
+    @Query(value = "UPDATE employee SET salary = ROUND(salary * :factor, 2), updated_at = CURRENT_TIMESTAMP, " +
+            "version = version + 1 WHERE hire_date <= :hiredOnOrBefore RETURNING *", nativeQuery = true)
+    List<Employee> increaseSalaryForEmployeesHiredOnOrBefore(@Param("factor") BigDecimal factor,
+                                                            @Param("hiredOnOrBefore") LocalDate hiredOnOrBefore);
+
+    /**
+     * keyset pagination: seeks past the last id already shown instead of skipping rows with OFFSET,
+     * so every page is a primary key range scan no matter how deep the user has scrolled
+     */
+    @Query(SELECT_DTO + "WHERE e.id > :afterId ORDER BY e.id ASC")
+    List<EmployeeDTO> findPageAfter(@Param("afterId") Integer afterId, Limit limit);
+
+    /**
+     * same seek in the opposite direction, rows come back in descending id order
+     */
+    @Query(SELECT_DTO + "WHERE e.id < :beforeId ORDER BY e.id DESC")
+    List<EmployeeDTO> findPageBefore(@Param("beforeId") Integer beforeId, Limit limit);
+
+    /**
+     * incremental refresh: rows touched since the table was loaded, limited to the id range the table shows.
+     * CURRENT_TIMESTAMP is the database clock the updatedAt column is stamped with, so both sides of the
+     * comparison come from the same clock
+     */
+    @Query(value = "SELECT CURRENT_TIMESTAMP", nativeQuery = true)
+    Instant currentTimestamp();
+
+    @Query(SELECT_DTO + "WHERE e.updatedAt > :since AND e.id BETWEEN :fromId AND :toId ORDER BY e.id ASC")
+    List<EmployeeDTO> findChangedSince(@Param("since") Instant since,
+                                       @Param("fromId") Integer fromId,
+                                       @Param("toId") Integer toId);
+
+    /**
+     * ids still present in the range, answered from the primary key index alone; whatever the table shows
+     * in that range but is missing here has been deleted
+     */
+    @Query("SELECT e.id FROM Employee e WHERE e.id BETWEEN :fromId AND :toId ORDER BY e.id ASC")
+    List<Integer> findIdsBetween(@Param("fromId") Integer fromId, @Param("toId") Integer toId);
+
+    /**
+     * moves the id sequence past the highest existing id, so that rows inserted while ids still came from
+     * the IDENTITY column can not collide with pooled sequence ids; never moves the sequence backwards.
+     * Not @Modifying, since setval is called through a SELECT whose result executeUpdate() would reject
+     */
+    @Query(value = "SELECT setval('employee_seq', GREATEST(s.last_value, " +
+            "(SELECT COALESCE(MAX(e.id), 0) FROM employee e))) FROM employee_seq s", nativeQuery = true)
+    Long alignIdSequence();
+}
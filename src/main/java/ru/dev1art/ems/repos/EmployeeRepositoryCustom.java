@@ -0,0 +1,47 @@
+package ru.dev1art.ems.repos;
+
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.domain.model.Employee;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Queries of {@link EmployeeRepository} that are assembled at runtime and therefore can not be declared with @Query.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public interface EmployeeRepositoryCustom {
+
+    /**
+     * Retrieves one page of employees matching the query's filter, in the query's sort order.
+     *
+     * @param query The sort order and filter.
+     * @param anchor The employee the page starts after (forward) or ends before (backward), or null for the first page.
+     * @param forward Whether to read in the query's order (true) or in reverse towards the start (false).
+     * @param limit The maximum number of employees to retrieve.
+     * @return The employees in reading order, i.e. reversed when reading backward.
+     */
+    List<EmployeeDTO> findPage(EmployeeQueryDTO query, EmployeeDTO anchor, boolean forward, int limit);
+
+    /**
+     * Streams all employees matching the query's filter, in the query's sort order, over a forward-only cursor.
+     * Rows are fetched from the database in small chunks as the stream is consumed, so memory use does not grow
+     * with the number of employees. Must be called inside a transaction, and the stream must be closed.
+     *
+     * @param query The sort order and filter.
+     * @return The matching employees.
+     */
+    Stream<EmployeeDTO> streamAll(EmployeeQueryDTO query);
+
+    /**
+     * Inserts new employees in JDBC batches. The persistence context is flushed and cleared after every batch,
+     * so memory use does not grow with the number of employees.
+     *
+     * @param employees The employees to insert, without IDs.
+     */
+    void persistInBatches(List<Employee> employees);
+}
@@ -0,0 +1,153 @@
+package ru.dev1art.ems.repos;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.SelectionQuery;
+import org.hibernate.query.criteria.JpaOrder;
+import org.springframework.beans.factory.annotation.Value;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.domain.dto.EmployeeSortField;
+import ru.dev1art.ems.domain.model.Employee;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link EmployeeRepositoryCustom} on top of the Criteria API and the entity manager.
+ * Pages are read with keyset pagination on the pair (sort attribute, id): the WHERE clause seeks past the
+ * anchor row instead of skipping rows with OFFSET, so each page costs the same however deep the user scrolls,
+ * and the database only ever sorts and returns one page.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+    @PersistenceContext EntityManager entityManager;
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize;
+    @Value("${ems.export.fetch-size:1000}") int fetchSize;
+
+    @Override
+    public List<EmployeeDTO> findPage(EmployeeQueryDTO query, EmployeeDTO anchor, boolean forward, int limit) {
+        return entityManager.createQuery(select(query, anchor, forward)).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<EmployeeDTO> streamAll(EmployeeQueryDTO query) {
+        // a forward-only cursor fetched fetchSize rows at a time; PostgreSQL only honours the fetch size
+        // inside a transaction, otherwise the driver buffers the whole result
+        return entityManager.createQuery(select(query, null, true))
+                .unwrap(SelectionQuery.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .setCacheable(false)
+                .stream();
+    }
+
+    /**
+     * Builds the query for the employees matching the filter, in the query's sort order, starting after the anchor.
+     */
+    private CriteriaQuery<EmployeeDTO> select(EmployeeQueryDTO query, EmployeeDTO anchor, boolean forward) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeDTO> criteriaQuery = cb.createQuery(EmployeeDTO.class);
+        Root<Employee> employee = criteriaQuery.from(Employee.class);
+        criteriaQuery.select(cb.construct(EmployeeDTO.class,
+                employee.get("id"), employee.get("lastName"), employee.get("position"),
+                employee.get("birthDate"), employee.get("hireDate"), employee.get("departmentNumber"),
+                employee.get("salary"), employee.get("version")));
+
+        // reading backward walks the same order in reverse, nulls included, so they sort first instead of last
+        boolean ascending = query.ascending() == forward;
+        boolean nullsLast = forward;
+        EmployeeSortField sortField = query.sortField();
+        Path<Comparable<Object>> sortPath = employee.get(sortField.getProperty());
+        Path<Integer> idPath = employee.get("id");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (query.filterText() != null) {
+            predicates.add(filter(cb, employee, query.filterText()));
+        }
+        if (anchor != null) {
+            predicates.add(sortField == EmployeeSortField.ID
+                    ? compare(cb, idPath, anchor.id(), ascending)
+                    : seek(cb, sortPath, idPath, sortField.valueOf(anchor), anchor.id(), ascending, nullsLast));
+        }
+        criteriaQuery.where(predicates.toArray(Predicate[]::new));
+
+        List<Order> orders = new ArrayList<>();
+        if (sortField != EmployeeSortField.ID) {
+            orders.add(((JpaOrder) (ascending ? cb.asc(sortPath) : cb.desc(sortPath)))
+                    .nullPrecedence(nullsLast ? NullPrecedence.LAST : NullPrecedence.FIRST));
+        }
+        orders.add(ascending ? cb.asc(idPath) : cb.desc(idPath));
+        criteriaQuery.orderBy(orders);
+        return criteriaQuery;
+    }
+
+    @Override
+    public void persistInBatches(List<Employee> employees) {
+        for (int index = 0; index < employees.size(); index++) {
+            entityManager.persist(employees.get(index));
+            if ((index + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Matches the text against last name and position, case-insensitively, and against ID and department number
+     * if the text is a number.
+     */
+    private Predicate filter(CriteriaBuilder cb, Root<Employee> employee, String filterText) {
+        String pattern = "%" + filterText.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        List<Predicate> alternatives = new ArrayList<>();
+        alternatives.add(cb.like(cb.lower(employee.get("lastName")), pattern, '\\'));
+        alternatives.add(cb.like(cb.lower(employee.get("position")), pattern, '\\'));
+        try {
+            Integer number = Integer.valueOf(filterText);
+            alternatives.add(cb.equal(employee.get("id"), number));
+            alternatives.add(cb.equal(employee.get("departmentNumber"), number));
+        } catch (NumberFormatException ignored) {
+            // not a number, only the text columns can match
+        }
+        return cb.or(alternatives.toArray(Predicate[]::new));
+    }
+
+    /**
+     * Rows that come after the anchor in the order (sort attribute, id), with nulls placed at the given end.
+     */
+    private Predicate seek(CriteriaBuilder cb, Path<Comparable<Object>> sortPath, Path<Integer> idPath,
+                           Comparable<?> anchorValue, Integer anchorId, boolean ascending, boolean nullsLast) {
+        Predicate idAfter = compare(cb, idPath, anchorId, ascending);
+        if (anchorValue == null) {
+            Predicate sameNull = cb.and(cb.isNull(sortPath), idAfter);
+            return nullsLast ? sameNull : cb.or(cb.isNotNull(sortPath), sameNull);
+        }
+        @SuppressWarnings("unchecked")
+        Comparable<Object> value = (Comparable<Object>) anchorValue;
+        Predicate valueAfter = compare(cb, sortPath, value, ascending);
+        Predicate sameValue = cb.and(cb.equal(sortPath, value), idAfter);
+        return nullsLast
+                ? cb.or(valueAfter, sameValue, cb.isNull(sortPath))
+                : cb.or(valueAfter, sameValue);
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate compare(CriteriaBuilder cb, Path<Y> path,
+                                                               Y value, boolean ascending) {
+        return ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+    }
+}
@@ -0,0 +1,132 @@
+package ru.dev1art.ems.services;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.csv.CsvUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Exports employees to CSV files in the format read by {@link EmployeeImportService}.
+ * Employees are streamed from the database and written to the file in fixed-size chunks as they arrive,
+ * so an export needs the same small amount of memory however many employees there are.
+ * The file is written under a .part name next to it and only moved into place once it is complete,
+ * so an export that fails or is interrupted neither leaves a truncated file nor touches an existing one.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@RequiredArgsConstructor
+public class EmployeeExportService {
+    static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    static final String PART_FILE_SUFFIX = ".part";
+    static final Marker SERVICE_MARKER = MarkerFactory.getMarker("SERVICE");
+    static final Marker DATA_MARKER = MarkerFactory.getMarker("DATA");
+    final EmployeeRepository employeeRepository;
+
+    /**
+     * Exports all employees matching the query's filter, in the query's sort order.
+     *
+     * @param query The sort order and filter.
+     * @param csvFile The file to write. An existing file is overwritten.
+     * @return The number of exported employees.
+     * @throws IOException if the file can not be written.
+     */
+    @Transactional(readOnly = true)
+    public long exportCsv(EmployeeQueryDTO query, Path csvFile) throws IOException {
+        log.debug(SERVICE_MARKER, "Exporting employees matching {} to {}", query, csvFile);
+        try (Stream<EmployeeDTO> employees = employeeRepository.streamAll(query)) {
+            return write(employees, csvFile);
+        }
+    }
+
+    /**
+     * Exports the given employees, e.g. the result of a menu shortcut.
+     *
+     * @param employees The employees to export.
+     * @param csvFile The file to write. An existing file is overwritten.
+     * @return The number of exported employees.
+     * @throws IOException if the file can not be written.
+     */
+    public long exportCsv(List<EmployeeDTO> employees, Path csvFile) throws IOException {
+        log.debug(SERVICE_MARKER, "Exporting {} employees to {}", employees.size(), csvFile);
+        return write(employees.stream(), csvFile);
+    }
+
+    private long write(Stream<EmployeeDTO> employees, Path csvFile) throws IOException {
+        Path partFile = csvFile.resolveSibling(csvFile.getFileName() + PART_FILE_SUFFIX);
+        try {
+            long rows = write(employees, partFile, csvFile);
+            moveIntoPlace(partFile, csvFile);
+            return rows;
+        } finally {
+            if (Files.deleteIfExists(partFile)) {
+                log.warn(DATA_MARKER, "Export to {} did not complete, partial file deleted", csvFile);
+            }
+        }
+    }
+
+    private long write(Stream<EmployeeDTO> employees, Path partFile, Path csvFile) throws IOException {
+        long start = System.nanoTime();
+        long rows = 0;
+        try (FileChannel channel = FileChannel.open(partFile, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            StringBuilder buffer = new StringBuilder(WRITE_BUFFER_SIZE + 1024);
+            CsvUtil.appendRecord(buffer, EmployeeImportService.COLUMNS.toArray());
+            Iterator<EmployeeDTO> iterator = employees.iterator();
+            while (iterator.hasNext()) {
+                EmployeeDTO employee = iterator.next();
+                CsvUtil.appendRecord(buffer, employee.id(), employee.lastName(), employee.position(),
+                        employee.birthDate(), employee.hireDate(), employee.departmentNumber(), employee.salary());
+                rows++;
+                if (buffer.length() >= WRITE_BUFFER_SIZE) {
+                    flush(buffer, channel);
+                }
+            }
+            flush(buffer, channel);
+        }
+        log.info(DATA_MARKER, "Exported {} employees to {} in {} ms",
+                rows, csvFile, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private void moveIntoPlace(Path partFile, Path csvFile) throws IOException {
+        try {
+            Files.move(partFile, csvFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException exception) {
+            Files.move(partFile, csvFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void flush(StringBuilder buffer, FileChannel channel) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        buffer.setLength(0);
+    }
+}
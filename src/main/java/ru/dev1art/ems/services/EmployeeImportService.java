@@ -0,0 +1,248 @@
+package ru.dev1art.ems.services;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeImportResultDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.cache.EmployeeCache;
+import ru.dev1art.ems.util.cache.SalaryRankingIndex;
+import ru.dev1art.ems.util.csv.CsvUtil;
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Imports employees from CSV files with PostgreSQL's COPY protocol.
+ * The file is read line by line, every record is validated against the {@link EmployeeDTO} constraints,
+ * and valid records are streamed into a temporary staging table through the driver's CopyManager.
+ * A single upsert then merges the staging table into the employee table, so neither the file nor the
+ * employees are ever held in memory as a whole. Records that fail validation are written to a reject file
+ * next to the input file.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@RequiredArgsConstructor
+public class EmployeeImportService {
+    static final List<String> COLUMNS = List.of(
+            "id", "lastName", "position", "birthDate", "hireDate", "departmentNumber", "salary");
+    static final String CREATE_STAGING_TABLE = "CREATE TEMPORARY TABLE employee_import (line_number bigint, " +
+            "id integer, last_name varchar(255), position varchar(255), birth_date date, hire_date date, " +
+            "department_number integer, salary numeric(38,2)) ON COMMIT DROP";
+    static final String COPY_INTO_STAGING_TABLE = "COPY employee_import FROM STDIN WITH (FORMAT csv)";
+    /**
+     * DISTINCT ON keeps the last record of every id in the file, ON CONFLICT can not touch a row twice.
+     * Overwritten rows get a new version, so that edits based on the version before the import conflict
+     */
+    static final String MERGE_STAGING_TABLE = "INSERT INTO employee (id, last_name, position, birth_date, " +
+            "hire_date, department_number, salary, updated_at, version) " +
+            "SELECT DISTINCT ON (id) id, last_name, position, birth_date, hire_date, department_number, salary, " +
+            "CURRENT_TIMESTAMP, 0 FROM employee_import ORDER BY id, line_number DESC " +
+            "ON CONFLICT (id) DO UPDATE SET last_name = EXCLUDED.last_name, position = EXCLUDED.position, " +
+            "birth_date = EXCLUDED.birth_date, hire_date = EXCLUDED.hire_date, " +
+            "department_number = EXCLUDED.department_number, salary = EXCLUDED.salary, " +
+            "updated_at = EXCLUDED.updated_at, version = employee.version + 1";
+    static final int COPY_BUFFER_SIZE = 64 * 1024;
+    static final Marker SERVICE_MARKER = MarkerFactory.getMarker("SERVICE");
+    static final Marker DATA_MARKER = MarkerFactory.getMarker("DATA");
+    final DataSource dataSource;
+    final Validator validator;
+    final EmployeeRepository employeeRepository;
+    final EmployeeCache employeeCache;
+    final SalaryRankingIndex salaryRankingIndex;
+    final EmployeeSnapshotService employeeSnapshotService;
+
+    /**
+     * Imports employees from a CSV file. The first line must be a header naming the columns
+     * id, lastName, position, birthDate, hireDate, departmentNumber and salary, in any order.
+     * Dates are expected in "yyyy-MM-dd" format. Existing employees with the same ID are updated.
+     *
+     * @param csvFile The file to import.
+     * @return The number of imported and rejected records, the reject file and the time it took.
+     * @throws IOException if the file can not be read or the reject file can not be written.
+     * @throws SQLException if copying or merging fails, in which case nothing is imported.
+     * @throws IllegalArgumentException if the header is missing a column.
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public EmployeeImportResultDTO importCsv(Path csvFile) throws IOException, SQLException {
+        log.debug(SERVICE_MARKER, "Importing employees from {}", csvFile);
+        long start = System.nanoTime();
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_TABLE);
+        }
+
+        Path rejectFile = csvFile.resolveSibling(csvFile.getFileName() + ".rejects.csv");
+        Files.deleteIfExists(rejectFile);
+        RejectWriter rejects = new RejectWriter(rejectFile);
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_INTO_STAGING_TABLE);
+        try (BufferedReader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8); rejects) {
+            copyRecords(reader, copyIn, rejects);
+            long copiedRows = copyIn.endCopy();
+            log.debug(DATA_MARKER, "Copied {} records into the staging table", copiedRows);
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        int importedRows;
+        try (Statement statement = connection.createStatement()) {
+            importedRows = statement.executeUpdate(MERGE_STAGING_TABLE);
+        }
+        employeeRepository.alignIdSequence();
+        employeeCache.invalidateAll();
+        EmployeeService.afterCommit(employeeCache::invalidateAll);
+        EmployeeService.afterCommit(salaryRankingIndex::invalidateAll);
+        EmployeeService.afterCommit(employeeSnapshotService::markStale);
+
+        EmployeeImportResultDTO result = new EmployeeImportResultDTO(importedRows, rejects.count,
+                rejects.count > 0 ? rejectFile : null, Duration.ofNanos(System.nanoTime() - start));
+        log.info(DATA_MARKER, "Imported {} employees from {} in {} ms ({} rows/s), rejected {}",
+                result.importedRows(), csvFile, result.elapsed().toMillis(),
+                Math.round(result.rowsPerSecond()), result.rejectedRows());
+        return result;
+    }
+
+    private void copyRecords(BufferedReader reader, CopyIn copyIn, RejectWriter rejects)
+            throws IOException, SQLException {
+        String header = reader.readLine();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columnIndexes = indexColumns(header);
+        StringBuilder buffer = new StringBuilder(COPY_BUFFER_SIZE + 1024);
+        long lineNumber = 1;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                EmployeeDTO employeeDTO = parseRecord(CsvUtil.parseLine(line), columnIndexes);
+                Set<ConstraintViolation<EmployeeDTO>> violations = validator.validate(employeeDTO);
+                if (!violations.isEmpty()) {
+                    rejects.write(lineNumber, violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining("; ")), line);
+                    continue;
+                }
+                CsvUtil.appendRecord(buffer, lineNumber, employeeDTO.id(), employeeDTO.lastName(),
+                        employeeDTO.position(), employeeDTO.birthDate(), employeeDTO.hireDate(),
+                        employeeDTO.departmentNumber(), employeeDTO.salary());
+            } catch (IllegalArgumentException | DateTimeParseException exception) {
+                rejects.write(lineNumber, exception.getMessage(), line);
+            }
+            if (buffer.length() >= COPY_BUFFER_SIZE) {
+                flush(buffer, copyIn);
+            }
+        }
+        flush(buffer, copyIn);
+    }
+
+    private Map<String, Integer> indexColumns(String header) {
+        List<String> names = CsvUtil.parseLine(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int index = 0; index < names.size(); index++) {
+            columnIndexes.put(names.get(index).strip().toLowerCase(Locale.ROOT), index);
+        }
+        for (String column : COLUMNS) {
+            if (!columnIndexes.containsKey(column.toLowerCase(Locale.ROOT))) {
+                throw new IllegalArgumentException("CSV header is missing column " + column);
+            }
+        }
+        return columnIndexes;
+    }
+
+    private EmployeeDTO parseRecord(List<String> fields, Map<String, Integer> columnIndexes) {
+        if (fields.size() < columnIndexes.size()) {
+            throw new IllegalArgumentException("Expected " + columnIndexes.size() + " fields but found " + fields.size());
+        }
+        Map<String, String> values = new HashMap<>();
+        for (String column : COLUMNS) {
+            String value = fields.get(columnIndexes.get(column.toLowerCase(Locale.ROOT))).strip();
+            values.put(column, value.isEmpty() ? null : value);
+        }
+        return EmployeeDTO.builder()
+                .id(values.get("id") == null ? null : Integer.valueOf(values.get("id")))
+                .lastName(values.get("lastName"))
+                .position(values.get("position"))
+                .birthDate(values.get("birthDate") == null ? null : LocalDate.parse(values.get("birthDate")))
+                .hireDate(values.get("hireDate") == null ? null : LocalDate.parse(values.get("hireDate")))
+                .departmentNumber(values.get("departmentNumber") == null
+                        ? null : Integer.valueOf(values.get("departmentNumber")))
+                .salary(values.get("salary") == null ? null : new BigDecimal(values.get("salary")))
+                .build();
+    }
+
+    private void flush(StringBuilder buffer, CopyIn copyIn) throws SQLException {
+        if (buffer.isEmpty()) {
+            return;
+        }
+        byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+        buffer.setLength(0);
+    }
+
+    /**
+     * Writes rejected records with their line number and the reason. The file is only created on the first reject.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private static final class RejectWriter implements AutoCloseable {
+        final Path file;
+        BufferedWriter writer;
+        int count;
+
+        RejectWriter(Path file) {
+            this.file = file;
+        }
+
+        void write(long lineNumber, String reason, String line) throws IOException {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                writer.write("lineNumber,reason,record\n");
+            }
+            writer.write(CsvUtil.appendRecord(new StringBuilder(), lineNumber, reason, line).toString());
+            count++;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
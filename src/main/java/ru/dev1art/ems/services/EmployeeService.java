@@ -1,25 +1,44 @@
 package ru.dev1art.ems.services;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.dev1art.ems.domain.dto.DepartmentStatisticsDTO;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeImportResultDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
 import ru.dev1art.ems.domain.mapper.EmployeeMapper;
 import ru.dev1art.ems.domain.model.Employee;
 import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.cache.EmployeeCache;
+import ru.dev1art.ems.util.cache.SalaryRankingIndex;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * @author Dev1Art
@@ -35,31 +54,150 @@ import java.util.List;
 public class EmployeeService {
     final EmployeeRepository employeeRepository;
     final EmployeeMapper employeeMapper;
+    final EmployeeCache employeeCache;
+    final SalaryRankingIndex salaryRankingIndex;
+    final EmployeeSnapshotService employeeSnapshotService;
     static final Marker SERVICE_MARKER = MarkerFactory.getMarker("SERVICE");
     static final Marker DATA_MARKER = MarkerFactory.getMarker("DATA");
 
     /**
-     * Saves a new employee to the database.
+     * Saves a new employee to the database. The employee is flushed before it is mapped back,
+     * so that the ranking index gets its incremented version.
      *
      * @param employeeDTO The EmployeeDTO object containing the employee's information to be saved.
      */
     public void saveEmployee(EmployeeDTO employeeDTO) {
         log.debug(SERVICE_MARKER, "Saving employee: {}", employeeDTO);
-        employeeRepository.save(employeeMapper.toEntity(employeeDTO));
+        EmployeeDTO savedEmployee = employeeMapper.toDto(
+                employeeRepository.saveAndFlush(employeeMapper.toEntity(employeeDTO)));
+        invalidateCached(employeeDTO.id());
+        afterCommit(() -> salaryRankingIndex.update(savedEmployee));
+        afterCommit(employeeSnapshotService::markStale);
+    }
+
+    /**
+     * Saves new and edited employees in one transaction, as queued by the add and edit form.
+     * Unlike {@link #saveAll(List)}, IDs are kept, so employees with an ID are updated.
+     * The batch is flushed before it is returned, so that the saved employees carry their incremented versions.
+     * The edited employees are loaded up front with one query, both to check their versions against and to tell
+     * an employee deleted in the meantime, which saving would otherwise insert again, from one that exists.
+     *
+     * @param employeeDTOs The employees to save.
+     * @return The saved employees in the given order, new ones with their assigned IDs.
+     * @throws ObjectOptimisticLockingFailureException if an edited employee has been changed or deleted
+     *                                                 since it was read.
+     */
+    public List<EmployeeDTO> saveEmployees(List<EmployeeDTO> employeeDTOs) {
+        log.debug(SERVICE_MARKER, "Saving batch of {} employees", employeeDTOs.size());
+        List<Integer> editedIds = employeeDTOs.stream().map(EmployeeDTO::id).filter(Objects::nonNull).toList();
+        if (!editedIds.isEmpty()) {
+            Set<Integer> existingIds = employeeRepository.findAllById(editedIds).stream()
+                    .map(Employee::getId)
+                    .collect(Collectors.toSet());
+            for (Integer id : editedIds) {
+                if (!existingIds.contains(id)) {
+                    log.warn(DATA_MARKER, "Employee {} was deleted before the edit could be saved", id);
+                    throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+                }
+            }
+        }
+        List<Employee> employees = new ArrayList<>(employeeDTOs.size());
+        for (EmployeeDTO employeeDTO : employeeDTOs) {
+            employees.add(employeeMapper.toEntity(employeeDTO));
+            invalidateCached(employeeDTO.id());
+        }
+        List<EmployeeDTO> savedEmployees = employeeRepository.saveAllAndFlush(employees).stream()
+                .map(employeeMapper::toDto)
+                .toList();
+        afterCommit(() -> savedEmployees.forEach(salaryRankingIndex::update));
+        afterCommit(employeeSnapshotService::markStale);
+        return savedEmployees;
+    }
+
+    /**
+     * Saves a batch of new employees in one transaction using JDBC batch inserts.
+     * IDs of the given employees are ignored, new IDs are assigned from the employee sequence.
+     *
+     * @param employeeDTOs The employees to import.
+     * @return The number of imported employees and the time it took.
+     */
+    public EmployeeImportResultDTO saveAll(List<EmployeeDTO> employeeDTOs) {
+        log.debug(SERVICE_MARKER, "Importing {} employees", employeeDTOs.size());
+        long start = System.nanoTime();
+        List<Employee> employees = new ArrayList<>(employeeDTOs.size());
+        for (EmployeeDTO employeeDTO : employeeDTOs) {
+            Employee employee = employeeMapper.toEntity(employeeDTO);
+            employee.setId(null);
+            employees.add(employee);
+        }
+        employeeRepository.persistInBatches(employees);
+        afterCommit(salaryRankingIndex::invalidateAll);
+        afterCommit(employeeSnapshotService::markStale);
+        EmployeeImportResultDTO result = new EmployeeImportResultDTO(
+                employees.size(), 0, null, Duration.ofNanos(System.nanoTime() - start));
+        log.info(DATA_MARKER, "Imported {} employees in {} ms ({} rows/s)", result.importedRows(),
+                result.elapsed().toMillis(), Math.round(result.rowsPerSecond()));
+        return result;
+    }
+
+    /**
+     * Moves the employee ID sequence past the highest existing ID once the application has started,
+     * so that employees created before IDs were drawn from the sequence can not collide with new ones.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void alignIdSequence() {
+        log.debug(DATA_MARKER, "Aligning employee ID sequence, next IDs start after {}",
+                employeeRepository.alignIdSequence());
     }
 
     /**
      * Finds an employee by their ID.
+     * Results are served from the employee cache, which is invalidated by every write in this service.
+     * No transaction is started, so a cache hit does not check out a database connection.
      *
      * @param id The ID of the employee to find.
      * @return The EmployeeDTO object corresponding to the found employee.
      * @throws EntityNotFoundException if the employee with the given ID does not exist.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public EmployeeDTO findById(Integer id) {
         log.debug(SERVICE_MARKER, "Finding employee by ID: {}", id);
+        return employeeCache.get(id, this::loadById);
+    }
+
+    /**
+     * Runs the action once the current transaction has committed, or right away outside a transaction,
+     * so that in-memory indexes never show a write that is rolled back.
+     *
+     * @param action The action to run.
+     */
+    static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Removes an employee from the cache right away and again once the transaction has committed.
+     * A read in between would still load the row as it was before the write and cache it until it expires.
+     *
+     * @param id The ID of the employee, or null for a new employee.
+     */
+    private void invalidateCached(Integer id) {
+        employeeCache.invalidate(id);
+        afterCommit(() -> employeeCache.invalidate(id));
+    }
+
+    private EmployeeDTO loadById(Integer id) {
         return employeeRepository
-                .findById(id)
-                .map(employeeMapper::toDto)
+                .findDtoById(id)
                 .orElseThrow(() -> {
                     log.warn(DATA_MARKER, "Employee not found for ID: {}", id);
                     return new EntityNotFoundException("Employee with ID " + id + " not found.");
@@ -75,6 +213,9 @@ public class EmployeeService {
         log.debug(SERVICE_MARKER, "Deleting employee with ID: {}", id);
         try {
             employeeRepository.deleteById(id);
+            invalidateCached(id);
+            afterCommit(() -> salaryRankingIndex.remove(id));
+            afterCommit(employeeSnapshotService::markStale);
             log.info(DATA_MARKER, "Employee with ID {} deleted successfully", id);
         } catch (Exception e) {
             log.error("Error deleting employee with ID {}: ", id, e);
@@ -87,18 +228,124 @@ public class EmployeeService {
      *
      * @return A list of EmployeeDTO objects representing all employees.
      */
+    @Transactional(readOnly = true)
     public List<EmployeeDTO> getAllEmployees() {
         log.debug(SERVICE_MARKER, "Retrieving all employees");
-        List<EmployeeDTO> employees = employeeRepository
-                .findAll()
-                .stream()
-                .map(employeeMapper::toDto)
-                .toList();
+        List<EmployeeDTO> employees = employeeRepository.findAllDtos();
         log.info(DATA_MARKER, "Retrieved {} employees", employees.size());
         return employees;
 
     }
 
+    /**
+     * Retrieves the next page of employees ordered by ID, starting right after the given ID.
+     *
+     * @param afterId The ID of the last employee already loaded, or null to start from the beginning.
+     * @param pageSize The maximum number of employees to retrieve.
+     * @return A list of EmployeeDTO objects in ascending ID order.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getEmployeesPage(Integer afterId, int pageSize) {
+        log.debug(SERVICE_MARKER, "Retrieving page of {} employees after ID {}", pageSize, afterId);
+        List<EmployeeDTO> employees = employeeRepository
+                .findPageAfter(afterId == null ? 0 : afterId, Limit.of(pageSize));
+        log.info(DATA_MARKER, "Retrieved page of {} employees", employees.size());
+        return employees;
+    }
+
+    /**
+     * Retrieves the page of employees that directly precedes the given ID.
+     *
+     * @param beforeId The ID of the first employee already loaded.
+     * @param pageSize The maximum number of employees to retrieve.
+     * @return A list of EmployeeDTO objects in ascending ID order.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getEmployeesPageBefore(Integer beforeId, int pageSize) {
+        log.debug(SERVICE_MARKER, "Retrieving page of {} employees before ID {}", pageSize, beforeId);
+        List<EmployeeDTO> employees = new ArrayList<>(employeeRepository
+                .findPageBefore(beforeId, Limit.of(pageSize)));
+        Collections.reverse(employees);
+        log.info(DATA_MARKER, "Retrieved page of {} employees", employees.size());
+        return employees;
+    }
+
+    /**
+     * Retrieves the next page of employees matching the query, sorted and filtered by the database.
+     * The natural order is served by the ID-based page queries above.
+     *
+     * @param query The sort order and filter, or null for the natural order.
+     * @param after The last employee already loaded, or null to start from the beginning.
+     * @param pageSize The maximum number of employees to retrieve.
+     * @return A list of EmployeeDTO objects in the query's order.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getEmployeesPage(EmployeeQueryDTO query, EmployeeDTO after, int pageSize) {
+        if (query == null || query.isDefault()) {
+            return getEmployeesPage(after == null ? null : after.id(), pageSize);
+        }
+        log.debug(SERVICE_MARKER, "Retrieving page of {} employees after {} for {}", pageSize, after, query);
+        List<EmployeeDTO> employees = employeeRepository.findPage(query, after, true, pageSize);
+        log.info(DATA_MARKER, "Retrieved page of {} employees", employees.size());
+        return employees;
+    }
+
+    /**
+     * Retrieves the page of employees that directly precedes the given employee in the query's order.
+     *
+     * @param query The sort order and filter, or null for the natural order.
+     * @param before The first employee already loaded.
+     * @param pageSize The maximum number of employees to retrieve.
+     * @return A list of EmployeeDTO objects in the query's order.
+     */
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getEmployeesPageBefore(EmployeeQueryDTO query, EmployeeDTO before, int pageSize) {
+        if (query == null || query.isDefault()) {
+            return getEmployeesPageBefore(before.id(), pageSize);
+        }
+        log.debug(SERVICE_MARKER, "Retrieving page of {} employees before {} for {}", pageSize, before, query);
+        List<EmployeeDTO> employees = new ArrayList<>(employeeRepository.findPage(query, before, false, pageSize));
+        Collections.reverse(employees);
+        log.info(DATA_MARKER, "Retrieved page of {} employees", employees.size());
+        return employees;
+    }
+
+    /**
+     * Returns the current time of the database, which is the clock employees are stamped with when they change.
+     *
+     * @return The current database time.
+     */
+    @Transactional(readOnly = true)
+    public Instant getDatabaseTime() {
+        return employeeRepository.currentTimestamp();
+    }
+
+    /**
+     * Retrieves the changes made to a range of employees since the given time.
+     * Changes committed by transactions that were already running at that time may be missed,
+     * which is acceptable for refreshing the table after the application's own writes.
+     *
+     * @param since The database time of the previous load, see {@link #getDatabaseTime()}.
+     * @param fromId The lowest ID of the range, inclusive.
+     * @param toId The highest ID of the range, inclusive.
+     * @return The employees inserted or updated since then and the IDs still present in the range.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeChangesDTO getEmployeeChanges(Instant since, Integer fromId, Integer toId) {
+        log.debug(SERVICE_MARKER, "Retrieving employees with ID {} to {} changed since {}", fromId, toId, since);
+        Instant loadedAt = employeeRepository.currentTimestamp();
+        EmployeeChangesDTO changes = EmployeeChangesDTO.builder()
+                .loadedAt(loadedAt)
+                .fromId(fromId)
+                .toId(toId)
+                .changedEmployees(employeeRepository.findChangedSince(since, fromId, toId))
+                .presentIds(employeeRepository.findIdsBetween(fromId, toId))
+                .build();
+        log.info(DATA_MARKER, "Found {} changed employees, {} present in range",
+                changes.changedEmployees().size(), changes.presentIds().size());
+        return changes;
+    }
+
     /**
      * Calculates the age of an employee at the time of hiring.
      *
@@ -127,67 +374,113 @@ public class EmployeeService {
 
     /**
      * Retrieves a list of employees in a specific department who are younger than a given age.
+     * Answered from the employee snapshot when it is enabled and up to date, otherwise by the database.
      *
      * @param deptNo The department number to filter employees by.
      * @param age The maximum age of employees to retrieve.
-     * @return A list of EmployeeDTO objects representing the filtered employees.
+     * @return A list of EmployeeDTO objects representing the filtered employees,
+     *         empty if deptNo or age is null.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<EmployeeDTO> getEmployeesInDepartmentYoungerThan(Integer deptNo, Integer age) {
         log.debug(SERVICE_MARKER, "Finding employees in department {} younger than {}", deptNo, age);
-        List<EmployeeDTO> employees = employeeRepository
-                .findEmployeesInDepartmentYoungerThan(deptNo, age)
-                .stream()
-                .map(employeeMapper::toDto)
-                .toList();
+        if (deptNo == null || age == null) {
+            log.warn(DATA_MARKER, "No department number or age given, no employees found");
+            return List.of();
+        }
+        LocalDate bornAfter = LocalDate.now().minusYears(age);
+        List<EmployeeDTO> employees = employeeSnapshotService.getCurrent()
+                .map(snapshot -> snapshot.toDtos(snapshot.findInDepartmentBornAfter(deptNo, bornAfter)))
+                .orElseGet(() -> employeeRepository.findEmployeesInDepartmentBornAfter(deptNo, bornAfter));
         log.info(DATA_MARKER, "Found {} employees", employees.size());
         return employees;
     }
 
     /**
-     * Retrieves the top 5 employees with the minimum salary.
+     * Retrieves the employees with the minimum salary. The number of employees is configured
+     * by ems.ranking.salary.default-size.
      *
      * @return A list of EmployeeDTO objects representing the employees with the lowest salaries.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<EmployeeDTO> getEmployeesWithMinSalary() {
-        log.debug(SERVICE_MARKER, "Finding employees with minimum salary");
-        List<EmployeeDTO> employees = employeeRepository
-                .findTop5BySalaryAsc()
-                .stream()
-                .map(employeeMapper::toDto)
-                .toList();
+        return getEmployeesWithMinSalary(salaryRankingIndex.getDefaultSize());
+    }
+
+    /**
+     * Retrieves the given number of employees with the minimum salary, lowest salary first.
+     * Results are served from the salary ranking index, which is kept up to date by every write in this service.
+     *
+     * @param count The number of employees to retrieve.
+     * @return A list of EmployeeDTO objects representing the employees with the lowest salaries.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<EmployeeDTO> getEmployeesWithMinSalary(int count) {
+        log.debug(SERVICE_MARKER, "Finding {} employees with minimum salary", count);
+        List<EmployeeDTO> employees = salaryRankingIndex.getLowest(count,
+                limit -> employeeRepository.findLowestSalaries(Limit.of(limit)));
         log.info(DATA_MARKER, "Found {} employees with minimum salary", employees.size());
         return employees;
     }
 
     /**
-     * Retrieves the top 5 employees with the maximum salary.
+     * Retrieves the employees with the maximum salary. The number of employees is configured
+     * by ems.ranking.salary.default-size.
      *
      * @return A list of EmployeeDTO objects representing the employees with the highest salaries.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<EmployeeDTO> getEmployeesWithMaxSalary() {
-        log.debug(SERVICE_MARKER, "Finding employees with maximum salary");
-        List<EmployeeDTO> employees = employeeRepository
-                .findTop5BySalaryDesc()
-                .stream()
-                .map(employeeMapper::toDto)
-                .toList();
+        return getEmployeesWithMaxSalary(salaryRankingIndex.getDefaultSize());
+    }
+
+    /**
+     * Retrieves the given number of employees with the maximum salary, highest salary first.
+     * Results are served from the salary ranking index, which is kept up to date by every write in this service.
+     *
+     * @param count The number of employees to retrieve.
+     * @return A list of EmployeeDTO objects representing the employees with the highest salaries.
+     */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public List<EmployeeDTO> getEmployeesWithMaxSalary(int count) {
+        log.debug(SERVICE_MARKER, "Finding {} employees with maximum salary", count);
+        List<EmployeeDTO> employees = salaryRankingIndex.getHighest(count,
+                limit -> employeeRepository.findHighestSalaries(Limit.of(limit)));
         log.info(DATA_MARKER, "Found {} employees with maximum salary", employees.size());
         return employees;
     }
 
+    /**
+     * Retrieves payroll statistics per department, computed by the database without loading any employees.
+     *
+     * @return One row per department in department order, followed by a row covering all departments.
+     */
+    @Transactional(readOnly = true)
+    public List<DepartmentStatisticsDTO> getDepartmentStatistics() {
+        log.debug(SERVICE_MARKER, "Computing department statistics");
+        List<DepartmentStatisticsDTO> statistics = employeeRepository.findDepartmentStatistics();
+        log.info(DATA_MARKER, "Computed statistics for {} departments", Math.max(0, statistics.size() - 1));
+        return statistics;
+    }
+
     /**
      * Retrieves a list of employees who have worked for a specified number of years or more.
+     * Answered from the employee snapshot when it is enabled and up to date, otherwise by the database.
      *
      * @param yearsWorked The number of years to filter employees by.
-     * @return A list of EmployeeDTO objects representing long-term employees.
+     * @return A list of EmployeeDTO objects representing long-term employees, empty if yearsWorked is null.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<EmployeeDTO> getLongTermEmployees(Integer yearsWorked) {
         log.debug(SERVICE_MARKER, "Finding long-term employees ({} years or more)", yearsWorked);
-        List<EmployeeDTO> employees = employeeRepository
-                .findEmployeesWorkingForGivenAmountOfYearsOrMore(yearsWorked)
-                .stream()
-                .map(employeeMapper::toDto)
-                .toList();
+        if (yearsWorked == null) {
+            log.warn(DATA_MARKER, "No years worked given, no long-term employees found");
+            return List.of();
+        }
+        LocalDate hiredOnOrBefore = LocalDate.now().minusYears(yearsWorked);
+        List<EmployeeDTO> employees = employeeSnapshotService.getCurrent()
+                .map(snapshot -> snapshot.toDtos(snapshot.findHiredOnOrBefore(hiredOnOrBefore)))
+                .orElseGet(() -> employeeRepository.findEmployeesHiredOnOrBefore(hiredOnOrBefore));
         log.info(DATA_MARKER, "Found {} long-term employees", employees.size());
         return employees;
     }
@@ -207,34 +500,39 @@ public class EmployeeService {
             log.error("Percentage increase and years worked cannot be null");
             throw new IllegalArgumentException("Percentage increase and years worked must not be null");
         }
-        List<Employee> eligibleEmployees = employeeRepository.findEmployeesWorkingForGivenAmountOfYearsOrMore(yearsWorked);
-        log.info(DATA_MARKER, "Found {} eligible employees", eligibleEmployees.size());
-        for (Employee employee : eligibleEmployees) {
-            BigDecimal newSalary = employee.getSalary().multiply(BigDecimal.ONE.
-                    add(percentageIncrease.divide(new BigDecimal("100"), RoundingMode.DOWN)));
-            employee.setSalary(newSalary);
-            employeeRepository.save(employee);
-            log.debug(DATA_MARKER, "Updated salary for employee {} to {}", employee.getId(), newSalary);
-        }
-
-        return eligibleEmployees
+        BigDecimal factor = BigDecimal.ONE.add(percentageIncrease.movePointLeft(2));
+        LocalDate hiredOnOrBefore = LocalDate.now().minusYears(yearsWorked);
+        List<EmployeeDTO> employees = employeeRepository
+                .increaseSalaryForEmployeesHiredOnOrBefore(factor, hiredOnOrBefore)
                 .stream()
                 .map(employeeMapper::toDto)
                 .toList();
+        employees.forEach(employee -> invalidateCached(employee.id()));
+        afterCommit(() -> employees.forEach(salaryRankingIndex::update));
+        afterCommit(employeeSnapshotService::markStale);
+        log.info(DATA_MARKER, "Increased salary for {} employees hired on or before {}", employees.size(), hiredOnOrBefore);
+        return employees;
     }
 
     /**
      * Retrieves a list of employees older than a specified age.
+     * Answered from the employee snapshot when it is enabled and up to date, otherwise by the database.
      *
      * @param age The minimum age to filter employees by.
-     * @return A list of EmployeeDTO objects representing employees older than the specified age.
+     * @return A list of EmployeeDTO objects representing employees older than the specified age,
+     *         empty if age is null.
      */
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public List<EmployeeDTO> findOldEmployees(Integer age) {
         log.debug(SERVICE_MARKER, "Finding employees older than {}", age);
-        List<EmployeeDTO> employees = employeeRepository
-                .findEmployeesOlderThan(age)
-                .stream().map(employeeMapper::toDto)
-                .toList();
+        if (age == null) {
+            log.warn(DATA_MARKER, "No age given, no old employees found");
+            return List.of();
+        }
+        LocalDate bornOnOrBefore = LocalDate.now().minusYears(age + 1L);
+        List<EmployeeDTO> employees = employeeSnapshotService.getCurrent()
+                .map(snapshot -> snapshot.toDtos(snapshot.findBornOnOrBefore(bornOnOrBefore)))
+                .orElseGet(() -> employeeRepository.findEmployeesBornOnOrBefore(bornOnOrBefore));
         log.info(DATA_MARKER, "Found {} employees older than {}", employees.size(), age);
         return employees;
     }
@@ -257,6 +555,7 @@ public class EmployeeService {
                 .hireDate(updatedEmployee.hireDate())
                 .departmentNumber(updatedEmployee.departmentNumber())
                 .salary(updatedEmployee.salary())
+                .version(originalEmployee.version())
                 .build();
         log.debug(DATA_MARKER, "Merged DTO: {}", mergedDTO);
         return mergedDTO;
@@ -0,0 +1,194 @@
+package ru.dev1art.ems.services;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.snapshot.EmployeeSnapshot;
+import ru.dev1art.ems.util.snapshot.ParallelScan;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Keeps an optional {@link EmployeeSnapshot} of all employees for the analytic filters.
+ * The snapshot is reloaded in the background on a schedule and after every committed write.
+ * While a reload is pending the snapshot is considered stale and not handed out, so callers fall back
+ * to the database and never see an outdated result of their own writes.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Service
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeSnapshotService {
+    static final Marker CACHE_MARKER = MarkerFactory.getMarker("CACHE");
+    final EmployeeRepository employeeRepository;
+    final TransactionTemplate transactionTemplate;
+    final Executor refreshExecutor;
+    final ParallelScan parallelScan;
+    @Getter final boolean enabled;
+    final AtomicLong changeCount = new AtomicLong();
+    final AtomicBoolean refreshing = new AtomicBoolean();
+    volatile LoadedSnapshot current;
+
+    /**
+     * Creates a service configured from the application properties, reloading on virtual threads.
+     *
+     * @param employeeRepository The repository the snapshot is read from.
+     * @param transactionManager The transaction manager used for the read-only reload transaction.
+     * @param enabled Whether the snapshot is used at all.
+     * @param parallelism The number of threads scanning large snapshots, 0 for one per processor.
+     * @param parallelThreshold The minimum number of employees for a parallel scan.
+     */
+    @Autowired
+    public EmployeeSnapshotService(
+            EmployeeRepository employeeRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${ems.snapshot.enabled:false}") boolean enabled,
+            @Value("${ems.snapshot.parallelism:0}") int parallelism,
+            @Value("${ems.snapshot.parallel-threshold:100000}") int parallelThreshold
+    ) {
+        this(employeeRepository, transactionManager, enabled,
+                enabled ? createParallelScan(parallelism, parallelThreshold) : ParallelScan.SEQUENTIAL,
+                work -> Thread.ofVirtual().name("employee-snapshot").start(work));
+    }
+
+    EmployeeSnapshotService(
+            EmployeeRepository employeeRepository,
+            PlatformTransactionManager transactionManager,
+            boolean enabled,
+            ParallelScan parallelScan,
+            Executor refreshExecutor
+    ) {
+        this.employeeRepository = employeeRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+        this.parallelScan = parallelScan;
+        this.refreshExecutor = refreshExecutor;
+        log.debug(CACHE_MARKER, "Employee snapshot {}", enabled ? "enabled" : "disabled");
+    }
+
+    private static ParallelScan createParallelScan(int parallelism, int parallelThreshold) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ParallelScan(new ForkJoinPool(threads), parallelThreshold);
+    }
+
+    /**
+     * Returns the snapshot if it reflects every write made so far.
+     * A missing or stale snapshot triggers a background reload.
+     *
+     * @return The current snapshot, or empty if the snapshot is disabled, not loaded yet or stale.
+     */
+    public Optional<EmployeeSnapshot> getCurrent() {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        LoadedSnapshot loaded = current;
+        if (loaded == null || loaded.changeCount() != changeCount.get()) {
+            refreshInBackground();
+            return Optional.empty();
+        }
+        return Optional.of(loaded.snapshot());
+    }
+
+    /**
+     * Marks the snapshot as outdated after a write and starts reloading it.
+     * Must be called once the write has committed, otherwise the reload may not see it.
+     */
+    public void markStale() {
+        changeCount.incrementAndGet();
+        if (enabled) {
+            refreshInBackground();
+        }
+    }
+
+    /**
+     * Reloads the snapshot periodically, so that writes made outside this application are picked up as well.
+     */
+    @Scheduled(initialDelayString = "${ems.snapshot.refresh-interval:PT5M}",
+            fixedDelayString = "${ems.snapshot.refresh-interval:PT5M}")
+    public void refreshOnSchedule() {
+        if (enabled) {
+            refreshInBackground();
+        }
+    }
+
+    /**
+     * Reads all employees into a new snapshot and installs it.
+     * Writes that happen while reading leave the new snapshot stale, so it is only handed out after the next reload.
+     *
+     * @return The new snapshot.
+     */
+    public synchronized EmployeeSnapshot refresh() {
+        long expectedChangeCount = changeCount.get();
+        long start = System.nanoTime();
+        EmployeeSnapshot snapshot = transactionTemplate.execute(status -> {
+            EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(Math.toIntExact(employeeRepository.count()))
+                    .parallelScan(parallelScan);
+            try (Stream<EmployeeDTO> employees = employeeRepository.streamAll(EmployeeQueryDTO.DEFAULT)) {
+                employees.forEach(builder::add);
+            }
+            return builder.build(Instant.now());
+        });
+        current = new LoadedSnapshot(snapshot, expectedChangeCount);
+        log.debug(CACHE_MARKER, "Loaded employee snapshot of {} employees in {} ms",
+                snapshot.getSize(), (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+
+    /**
+     * Shuts the pool scanning large snapshots down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (parallelScan.pool() != null) {
+            parallelScan.pool().shutdownNow();
+        }
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } catch (RuntimeException exception) {
+                    log.error("Error loading employee snapshot:", exception);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            refreshing.set(false);
+            throw exception;
+        }
+    }
+
+    /**
+     * A snapshot together with the number of writes it reflects.
+     */
+    private record LoadedSnapshot(EmployeeSnapshot snapshot, long changeCount) {}
+}
@@ -0,0 +1,386 @@
+package ru.dev1art.ems.util.async;
+
+import jakarta.annotation.PreDestroy;
+import javafx.application.Platform;
+import lombok.AccessLevel;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.services.EmployeeService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind queue for the employees submitted from the add and edit form.
+ * Submitted employees are collected and saved together in one transaction, either once
+ * ems.write-behind.interval has passed since the first of them was queued or as soon as
+ * ems.write-behind.max-batch-size employees are queued. Repeated edits of the same employee are coalesced,
+ * only the latest one is written. The outcome of every batch is reported to the {@link BatchListener},
+ * so that the employees can be shown before they are written and rolled back if the batch fails.
+ * <p>
+ * Batches are written one at a time, in the order the employees were submitted. An edit based on a version
+ * of the employee that this queue has written or started from itself is saved on top of the latest version
+ * written here, so that editing a row again while its previous edit is still being written is not taken
+ * for a conflict. If an employee was changed or deleted by someone else in the meantime, only that employee
+ * fails with an {@link ObjectOptimisticLockingFailureException}, and the rest of its batch is written again.
+ * The versions of an employee are only remembered until its latest write is confirmed and no edit of it is queued.
+ * All methods are called from the UI thread, except for {@link #shutdown()}, which may run on the thread closing
+ * the application context. The queue state is therefore synchronized on the queue.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeWriteQueue {
+    static final Marker ASYNC_MARKER = MarkerFactory.getMarker("ASYNC");
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    final EmployeeService employeeService;
+    final FxTaskRunner taskRunner;
+    final ScheduledExecutorService scheduler;
+    final Executor uiExecutor;
+    final Duration interval;
+    final int maxBatchSize;
+    final List<EmployeeDTO> pendingAdds = new ArrayList<>();
+    final Map<Integer, EmployeeDTO> pendingUpdates = new LinkedHashMap<>();
+    final Map<Integer, WrittenVersions> writtenVersions = new HashMap<>();
+    @Setter BatchListener listener;
+    ScheduledFuture<?> scheduledFlush;
+    CountDownLatch runningWrite;
+    boolean writing;
+    boolean shutDown;
+
+    /**
+     * Creates a queue that flushes on a daemon timer thread and writes through the task runner.
+     *
+     * @param employeeService The service saving the batches.
+     * @param taskRunner The runner executing the batches away from the UI thread.
+     * @param interval How long employees are collected before they are written.
+     * @param maxBatchSize The number of queued employees that triggers a write right away.
+     */
+    @Autowired
+    public EmployeeWriteQueue(
+            EmployeeService employeeService,
+            FxTaskRunner taskRunner,
+            @Value("${ems.write-behind.interval:500ms}") Duration interval,
+            @Value("${ems.write-behind.max-batch-size:50}") int maxBatchSize
+    ) {
+        this(employeeService, taskRunner, Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("ems-write-behind").daemon().factory()),
+                Platform::runLater, interval, maxBatchSize);
+    }
+
+    /**
+     * Creates a queue with a custom timer.
+     *
+     * @param employeeService The service saving the batches.
+     * @param taskRunner The runner executing the batches away from the UI thread.
+     * @param scheduler The executor timing the flushes.
+     * @param uiExecutor The executor running the timed flushes, normally the JavaFX Application Thread.
+     * @param interval How long employees are collected before they are written.
+     * @param maxBatchSize The number of queued employees that triggers a write right away.
+     */
+    public EmployeeWriteQueue(EmployeeService employeeService, FxTaskRunner taskRunner,
+                              ScheduledExecutorService scheduler, Executor uiExecutor,
+                              Duration interval, int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.employeeService = employeeService;
+        this.taskRunner = taskRunner;
+        this.scheduler = scheduler;
+        this.uiExecutor = uiExecutor;
+        this.interval = interval;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Queues an employee to be saved with the next batch. A queued edit of the same employee is replaced.
+     *
+     * @param employee The employee to save, without an ID if it is new.
+     */
+    public synchronized void enqueue(EmployeeDTO employee) {
+        if (shutDown) {
+            log.warn(ASYNC_MARKER, "Write queue is shut down, employee {} is not saved", employee.id());
+            return;
+        }
+        if (employee.id() == null) {
+            pendingAdds.add(employee);
+        } else {
+            pendingUpdates.put(employee.id(), employee);
+        }
+        log.trace(ASYNC_MARKER, "Queued employee write, {} pending", size());
+        if (size() >= maxBatchSize) {
+            flush();
+        } else if (scheduledFlush == null) {
+            scheduledFlush = scheduler.schedule(() -> uiExecutor.execute(this::flush),
+                    interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the number of employees waiting for the next batch.
+     *
+     * @return The number of queued new and edited employees.
+     */
+    public synchronized int size() {
+        return pendingAdds.size() + pendingUpdates.size();
+    }
+
+    /**
+     * Writes the queued employees in one transaction in the background and reports the outcome to the listener.
+     * If a batch is still being written, the employees are written as soon as it is done.
+     */
+    public synchronized void flush() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (size() == 0 || writing || shutDown) {
+            return;
+        }
+        List<EmployeeDTO> batch = drain();
+        List<EmployeeDTO> rebased = batch.stream().map(this::rebase).toList();
+        CountDownLatch written = new CountDownLatch(1);
+        runningWrite = written;
+        writing = true;
+        log.debug(ASYNC_MARKER, "Writing batch of {} employees", batch.size());
+        taskRunner.submit(null,
+                () -> {
+                    try {
+                        return employeeService.saveEmployees(rebased);
+                    } finally {
+                        written.countDown();
+                    }
+                },
+                saved -> onBatchWritten(batch, rebased, saved),
+                exception -> {
+                    // a rejected batch never ran its work
+                    written.countDown();
+                    onBatchFailed(batch, exception);
+                });
+    }
+
+    private void onBatchWritten(List<EmployeeDTO> batch, List<EmployeeDTO> rebased, List<EmployeeDTO> saved) {
+        log.info(ASYNC_MARKER, "Batch of {} employees written", saved.size());
+        synchronized (this) {
+            writing = false;
+            recordVersions(batch, rebased, saved);
+            if (listener != null) {
+                listener.batchWritten(batch, saved);
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Reports the failed employees to the listener. On a conflict only the conflicting employee has failed,
+     * the others are queued again ahead of the employees submitted since.
+     */
+    private void onBatchFailed(List<EmployeeDTO> batch, Throwable exception) {
+        synchronized (this) {
+            writing = false;
+            reportFailed(batch, exception);
+        }
+        flush();
+    }
+
+    private void reportFailed(List<EmployeeDTO> batch, Throwable exception) {
+        List<EmployeeDTO> failed = batch;
+        if (exception instanceof ObjectOptimisticLockingFailureException conflict && conflict.getIdentifier() != null) {
+            List<EmployeeDTO> conflicting = batch.stream()
+                    .filter(employee -> Objects.equals(employee.id(), conflict.getIdentifier()))
+                    .toList();
+            if (!conflicting.isEmpty()) {
+                log.warn(ASYNC_MARKER, "Employee {} was changed by someone else, writing the rest of the batch again",
+                        conflict.getIdentifier());
+                failed = conflicting;
+                writtenVersions.remove(conflict.getIdentifier());
+                requeue(batch.stream().filter(employee -> !conflicting.contains(employee)).toList());
+            }
+        }
+        if (failed == batch) {
+            log.error("Error writing batch of {} employees: {}", batch.size(), exception.getMessage());
+        }
+        if (listener != null) {
+            listener.batchFailed(failed, exception);
+        }
+    }
+
+    /**
+     * Puts employees of a failed batch back in front of the queue. Edits submitted since win over them.
+     */
+    private void requeue(List<EmployeeDTO> employees) {
+        List<EmployeeDTO> queuedAdds = new ArrayList<>(pendingAdds);
+        Map<Integer, EmployeeDTO> queuedUpdates = new LinkedHashMap<>(pendingUpdates);
+        pendingAdds.clear();
+        pendingUpdates.clear();
+        for (EmployeeDTO employee : employees) {
+            if (employee.id() == null) {
+                pendingAdds.add(employee);
+            } else if (!queuedUpdates.containsKey(employee.id())) {
+                pendingUpdates.put(employee.id(), employee);
+            }
+        }
+        pendingAdds.addAll(queuedAdds);
+        pendingUpdates.putAll(queuedUpdates);
+    }
+
+    /**
+     * Moves an edit based on a version this queue has written or started from onto the latest version written.
+     */
+    private EmployeeDTO rebase(EmployeeDTO employee) {
+        WrittenVersions versions = employee.id() == null ? null : writtenVersions.get(employee.id());
+        if (versions == null || !versions.known.contains(employee.version())
+                || Objects.equals(versions.latest, employee.version())) {
+            return employee;
+        }
+        log.debug(ASYNC_MARKER, "Saving edit of employee {} on top of version {}", employee.id(), versions.latest);
+        return EmployeeDTO.builder()
+                .id(employee.id())
+                .lastName(employee.lastName())
+                .position(employee.position())
+                .birthDate(employee.birthDate())
+                .hireDate(employee.hireDate())
+                .departmentNumber(employee.departmentNumber())
+                .salary(employee.salary())
+                .version(versions.latest)
+                .build();
+    }
+
+    /**
+     * Remembers the versions of the written employees that have an edit queued, which may still be based on one
+     * of them. The others are forgotten, as the listener now shows their saved version.
+     */
+    private void recordVersions(List<EmployeeDTO> batch, List<EmployeeDTO> rebased, List<EmployeeDTO> saved) {
+        for (int i = 0; i < batch.size(); i++) {
+            Integer id = batch.get(i).id();
+            if (id != null && !pendingUpdates.containsKey(id)) {
+                writtenVersions.remove(id);
+            } else if (id != null) {
+                WrittenVersions versions = writtenVersions.computeIfAbsent(id, ignored -> new WrittenVersions());
+                versions.known.add(batch.get(i).version());
+                versions.known.add(rebased.get(i).version());
+                versions.known.add(saved.get(i).version());
+                versions.latest = saved.get(i).version();
+            }
+        }
+    }
+
+    /**
+     * Stops the timer, waits for the batch being written and writes the employees still queued on the calling thread,
+     * so that nothing entered shortly before the application exits is lost. A conflicting employee is logged
+     * and left out, the others are still written.
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        CountDownLatch written;
+        synchronized (this) {
+            shutDown = true;
+            written = writing ? runningWrite : null;
+        }
+        // the UI thread may be the one closing the context, so the batch's callback is not waited for
+        try {
+            if (written != null && !written.await(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                log.error("Batch still being written after {}, it may be lost", SHUTDOWN_TIMEOUT);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for the batch being written, it may be lost");
+        }
+        List<EmployeeDTO> batch;
+        synchronized (this) {
+            batch = drain().stream().map(this::rebase).toList();
+        }
+        if (!batch.isEmpty()) {
+            log.info(ASYNC_MARKER, "Writing {} queued employees before shutdown", batch.size());
+            writeBeforeShutdown(batch);
+        }
+    }
+
+    private void writeBeforeShutdown(List<EmployeeDTO> batch) {
+        while (!batch.isEmpty()) {
+            try {
+                employeeService.saveEmployees(batch);
+                return;
+            } catch (ObjectOptimisticLockingFailureException conflict) {
+                Object conflictingId = conflict.getIdentifier();
+                List<EmployeeDTO> rest = batch.stream()
+                        .filter(employee -> !Objects.equals(employee.id(), conflictingId))
+                        .toList();
+                if (conflictingId == null || rest.size() == batch.size()) {
+                    log.error("Error writing {} queued employees before shutdown: {}",
+                            batch.size(), conflict.getMessage());
+                    return;
+                }
+                log.warn(ASYNC_MARKER, "Employee {} was changed by someone else, not saved before shutdown",
+                        conflictingId);
+                batch = rest;
+            }
+        }
+    }
+
+    private List<EmployeeDTO> drain() {
+        List<EmployeeDTO> batch = new ArrayList<>(size());
+        batch.addAll(pendingAdds);
+        batch.addAll(pendingUpdates.values());
+        pendingAdds.clear();
+        pendingUpdates.clear();
+        return batch;
+    }
+
+    /**
+     * The versions of an employee this queue has written or based a write on, and the latest one it has written.
+     */
+    private static final class WrittenVersions {
+        final Set<Long> known = new HashSet<>();
+        Long latest;
+    }
+
+    /**
+     * Receives the outcome of every written batch on the UI thread.
+     */
+    public interface BatchListener {
+        /**
+         * Called once a batch has been committed.
+         *
+         * @param pending The employees of the batch, as they were queued.
+         * @param saved The saved employees, in the same order.
+         */
+        void batchWritten(List<EmployeeDTO> pending, List<EmployeeDTO> saved);
+
+        /**
+         * Called if a batch could not be written. None of the given employees have been saved.
+         * If an employee was changed or deleted by someone else, the exception is an
+         * {@link ObjectOptimisticLockingFailureException} and only that employee is given.
+         *
+         * @param pending The failed employees of the batch, as they were queued.
+         * @param exception The exception that failed the batch.
+         */
+        void batchFailed(List<EmployeeDTO> pending, Throwable exception);
+    }
+}
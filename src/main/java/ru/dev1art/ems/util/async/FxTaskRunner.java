@@ -0,0 +1,170 @@
+package ru.dev1art.ems.util.async;
+
+import jakarta.annotation.PreDestroy;
+import javafx.application.Platform;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.stereotype.Component;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+
+/**
+ * Runs blocking work (service calls, queries) away from the JavaFX Application Thread.
+ * Every task is executed on its own virtual thread and its result is posted back to the UI thread.
+ * Reads are grouped by channel: submitting a new task on a channel cancels the one still running there,
+ * so a stale result never overwrites the answer to the user's latest click. Writes run without a channel
+ * and are never cancelled.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FxTaskRunner {
+    static final Marker ASYNC_MARKER = MarkerFactory.getMarker("ASYNC");
+    final Executor backgroundExecutor;
+    final Executor uiExecutor;
+    final Map<String, ChannelTask<?>> activeTasks = new ConcurrentHashMap<>();
+    final IntegerProperty runningTasks = new SimpleIntegerProperty(0);
+    final BooleanBinding busy = runningTasks.greaterThan(0);
+
+    /**
+     * Creates a runner that executes tasks on virtual threads and delivers results via {@link Platform#runLater}.
+     */
+    public FxTaskRunner() {
+        this(Executors.newVirtualThreadPerTaskExecutor(), Platform::runLater);
+    }
+
+    /**
+     * Creates a runner with custom executors.
+     *
+     * @param backgroundExecutor The executor running the blocking work.
+     * @param uiExecutor The executor delivering results, normally the JavaFX Application Thread.
+     */
+    public FxTaskRunner(Executor backgroundExecutor, Executor uiExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Submits a task on the given channel, cancelling the previous task of that channel if it is still running.
+     * Must be called from the UI thread.
+     *
+     * @param channel The name of the channel, e.g. the UI action that triggered the task, or null for none.
+     * @param work The blocking work to execute in the background.
+     * @param onSuccess Called on the UI thread with the result of the work.
+     * @param onFailure Called on the UI thread with the exception thrown by the work.
+     * @param <T> The type of the result.
+     */
+    public <T> void submit(String channel, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        ChannelTask<T> task = new ChannelTask<>(channel, work, onSuccess, onFailure);
+        if (channel != null) {
+            cancel(channel);
+            activeTasks.put(channel, task);
+        }
+        runningTasks.set(runningTasks.get() + 1);
+        log.trace(ASYNC_MARKER, "Submitting task on channel {}", channel);
+        try {
+            backgroundExecutor.execute(task);
+        } catch (RejectedExecutionException exception) {
+            log.error("Task on channel {} was rejected", channel, exception);
+            task.fail(exception);
+        }
+    }
+
+    /**
+     * Submits a task without a result that can not be cancelled, such as a write.
+     *
+     * @param work The blocking work to execute in the background.
+     * @param onSuccess Called on the UI thread once the work has completed.
+     * @param onFailure Called on the UI thread with the exception thrown by the work.
+     */
+    public void run(Runnable work, Runnable onSuccess, Consumer<Throwable> onFailure) {
+        submit(null, Executors.callable(work), ignored -> onSuccess.run(), onFailure);
+    }
+
+    /**
+     * Cancels the task currently running on the given channel, if any. Its callbacks will not be called.
+     *
+     * @param channel The name of the channel.
+     */
+    public void cancel(String channel) {
+        ChannelTask<?> previous = activeTasks.remove(channel);
+        if (previous != null && previous.cancel(true)) {
+            log.debug(ASYNC_MARKER, "Cancelled stale task on channel {}", channel);
+        }
+    }
+
+    /**
+     * Returns a binding that is true while at least one task is running.
+     *
+     * @return The busy binding, suitable for showing a progress indicator.
+     */
+    public BooleanBinding busyProperty() {
+        return busy;
+    }
+
+    /**
+     * Interrupts all running tasks and shuts the background executor down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        log.debug(ASYNC_MARKER, "Shutting down task runner");
+        activeTasks.values().forEach(task -> task.cancel(true));
+        activeTasks.clear();
+        if (backgroundExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * A task bound to a channel that hands its outcome over to the UI thread once it is done.
+     */
+    private final class ChannelTask<T> extends FutureTask<T> {
+        final String channel;
+        final Consumer<T> onSuccess;
+        final Consumer<Throwable> onFailure;
+
+        ChannelTask(String channel, Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+            super(work);
+            this.channel = channel;
+            this.onSuccess = onSuccess;
+            this.onFailure = onFailure;
+        }
+
+        void fail(Throwable throwable) {
+            setException(throwable);
+        }
+
+        @Override
+        protected void done() {
+            uiExecutor.execute(this::complete);
+        }
+
+        private void complete() {
+            runningTasks.set(runningTasks.get() - 1);
+            if (isCancelled() || (channel != null && !activeTasks.remove(channel, this))) {
+                log.trace(ASYNC_MARKER, "Discarding result of stale task on channel {}", channel);
+                return;
+            }
+            try {
+                onSuccess.accept(get());
+            } catch (ExecutionException exception) {
+                log.error("Task on channel {} failed:", channel, exception.getCause());
+                onFailure.accept(exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package ru.dev1art.ems.util.cache;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of employees by ID.
+ * Entries are evicted in least-recently-used order once the cache is full, and expire after a fixed time to live
+ * so that changes made outside this application are eventually picked up.
+ * A load that overlaps an invalidation is returned but not cached, as it may have read the row before the write.
+ * Hit, miss and eviction counters are kept to help size the cache.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeCache {
+    static final Marker CACHE_MARKER = MarkerFactory.getMarker("CACHE");
+    final int maxSize;
+    final Duration timeToLive;
+    final Clock clock;
+    final Map<Integer, Entry> entries;
+    final AtomicLong hitCount = new AtomicLong();
+    final AtomicLong missCount = new AtomicLong();
+    final AtomicLong evictionCount = new AtomicLong();
+    long invalidationCount;
+
+    /**
+     * Creates a cache configured from the application properties.
+     *
+     * @param maxSize The maximum number of employees kept in the cache.
+     * @param timeToLive The time after which a cached employee is reloaded.
+     */
+    @Autowired
+    public EmployeeCache(
+            @Value("${ems.cache.employee.max-size:1000}") int maxSize,
+            @Value("${ems.cache.employee.time-to-live:5m}") Duration timeToLive
+    ) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache with a custom clock.
+     *
+     * @param maxSize The maximum number of employees kept in the cache.
+     * @param timeToLive The time after which a cached employee is reloaded.
+     * @param clock The clock used to expire entries.
+     */
+    public EmployeeCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize <= 0 || timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("Cache size and time to live must be positive");
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                if (size() > EmployeeCache.this.maxSize) {
+                    evictionCount.incrementAndGet();
+                    log.trace(CACHE_MARKER, "Evicting least recently used employee {}", eldest.getKey());
+                    return true;
+                }
+                return false;
+            }
+        };
+        log.debug(CACHE_MARKER, "Employee cache initialized with max size {} and time to live {}", maxSize, timeToLive);
+    }
+
+    /**
+     * Returns the cached employee with the given ID, loading and caching it on a miss or after expiry.
+     * The loader runs outside the cache lock, so a slow query does not block lookups of other employees.
+     * If the cache is invalidated while the loader runs, the loaded employee is not cached.
+     *
+     * @param id The ID of the employee.
+     * @param loader Loads the employee on a miss. Exceptions thrown by it are propagated and nothing is cached.
+     * @return The cached or freshly loaded employee.
+     */
+    public EmployeeDTO get(Integer id, Function<Integer, EmployeeDTO> loader) {
+        EmployeeDTO cached = getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long invalidationsBeforeLoad;
+        synchronized (entries) {
+            invalidationsBeforeLoad = invalidationCount;
+        }
+        EmployeeDTO loaded = loader.apply(id);
+        if (loaded != null) {
+            synchronized (entries) {
+                if (invalidationCount == invalidationsBeforeLoad) {
+                    entries.put(id, new Entry(loaded, clock.instant().plus(timeToLive)));
+                } else {
+                    log.trace(CACHE_MARKER, "Not caching employee {}, the cache was invalidated while loading it", id);
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Removes the employee with the given ID from the cache.
+     *
+     * @param id The ID of the employee, or null for a new employee which can not be cached yet.
+     */
+    public void invalidate(Integer id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (entries) {
+            entries.remove(id);
+            invalidationCount++;
+        }
+        log.trace(CACHE_MARKER, "Invalidated cached employee {}", id);
+    }
+
+    /**
+     * Removes all employees from the cache.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            invalidationCount++;
+        }
+        log.debug(CACHE_MARKER, "Invalidated all cached employees");
+    }
+
+    /**
+     * Returns the number of employees currently cached, including expired ones that were not looked up yet.
+     *
+     * @return The number of cached employees.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the number of lookups answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Returns the number of lookups that had to load the employee.
+     *
+     * @return The miss count.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Returns the number of employees removed because the cache was full or their entry expired.
+     *
+     * @return The eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    private EmployeeDTO getIfPresent(Integer id) {
+        synchronized (entries) {
+            Entry entry = entries.get(id);
+            if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+                hitCount.incrementAndGet();
+                return entry.employee();
+            }
+            if (entry != null) {
+                entries.remove(id);
+                evictionCount.incrementAndGet();
+                log.trace(CACHE_MARKER, "Cached employee {} expired", id);
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+    private record Entry(EmployeeDTO employee, Instant expiresAt) { }
+}
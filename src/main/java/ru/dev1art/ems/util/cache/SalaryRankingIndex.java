@@ -0,0 +1,215 @@
+package ru.dev1art.ems.util.cache;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.util.*;
+import java.util.function.IntFunction;
+
+/**
+ * In-memory index of the highest and lowest paid employees.
+ * Each end of the salary order keeps the first employees of that order in a sorted set, up to a fixed capacity.
+ * The sets are loaded from the database on first use and then maintained incrementally from writes,
+ * so top-N and bottom-N lookups are answered from memory. An end is reloaded only once deletes or salary
+ * changes have shrunk it below the requested N. Employees without a salary are not ranked.
+ * As writes made outside this application do not reach the index, it is also discarded every
+ * ems.ranking.salary.refresh-interval and reloaded on the next lookup.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SalaryRankingIndex {
+    static final Marker CACHE_MARKER = MarkerFactory.getMarker("CACHE");
+    static final Comparator<EmployeeDTO> HIGHEST_FIRST = Comparator.comparing(EmployeeDTO::salary)
+            .thenComparing(EmployeeDTO::id)
+            .reversed();
+    static final Comparator<EmployeeDTO> LOWEST_FIRST = Comparator.comparing(EmployeeDTO::salary)
+            .thenComparing(EmployeeDTO::id);
+    @Getter final int defaultSize;
+    final int capacity;
+    final Ranking highest = new Ranking("highest", HIGHEST_FIRST);
+    final Ranking lowest = new Ranking("lowest", LOWEST_FIRST);
+
+    /**
+     * Creates an index configured from the application properties.
+     *
+     * @param defaultSize The number of employees returned when no N is given.
+     * @param capacity The number of employees kept at each end of the salary order.
+     */
+    @Autowired
+    public SalaryRankingIndex(
+            @Value("${ems.ranking.salary.default-size:5}") int defaultSize,
+            @Value("${ems.ranking.salary.capacity:100}") int capacity
+    ) {
+        if (defaultSize <= 0 || capacity < defaultSize) {
+            throw new IllegalArgumentException("Ranking size must be positive and not exceed its capacity");
+        }
+        this.defaultSize = defaultSize;
+        this.capacity = capacity;
+        log.debug(CACHE_MARKER, "Salary ranking initialized with default size {} and capacity {}", defaultSize, capacity);
+    }
+
+    /**
+     * Returns the highest paid employees, highest salary first.
+     *
+     * @param count The number of employees to return.
+     * @param loader Loads the given number of highest paid employees from the database, in the same order.
+     *               Called when the index is not loaded yet, has shrunk below the count, or the count exceeds its capacity.
+     * @return Up to count employees.
+     */
+    public List<EmployeeDTO> getHighest(int count, IntFunction<List<EmployeeDTO>> loader) {
+        return highest.get(count, loader);
+    }
+
+    /**
+     * Returns the lowest paid employees, lowest salary first.
+     *
+     * @param count The number of employees to return.
+     * @param loader Loads the given number of lowest paid employees from the database, in the same order.
+     *               Called when the index is not loaded yet, has shrunk below the count, or the count exceeds its capacity.
+     * @return Up to count employees.
+     */
+    public List<EmployeeDTO> getLowest(int count, IntFunction<List<EmployeeDTO>> loader) {
+        return lowest.get(count, loader);
+    }
+
+    /**
+     * Applies a saved employee, moving it to its new rank or out of the index.
+     *
+     * @param employee The employee as stored in the database.
+     */
+    public void update(EmployeeDTO employee) {
+        highest.update(employee);
+        lowest.update(employee);
+    }
+
+    /**
+     * Removes a deleted employee from the index.
+     *
+     * @param id The ID of the employee.
+     */
+    public void remove(Integer id) {
+        highest.remove(id);
+        lowest.remove(id);
+    }
+
+    /**
+     * Discards the index, e.g. after a bulk write. It is reloaded on the next lookup.
+     */
+    public void invalidateAll() {
+        highest.invalidate();
+        lowest.invalidate();
+        log.debug(CACHE_MARKER, "Invalidated salary ranking");
+    }
+
+    /**
+     * Discards the index periodically, so that salaries changed outside this application are picked up as well.
+     */
+    @Scheduled(initialDelayString = "${ems.ranking.salary.refresh-interval:PT1M}",
+            fixedDelayString = "${ems.ranking.salary.refresh-interval:PT1M}")
+    public void refreshOnSchedule() {
+        invalidateAll();
+    }
+
+    /**
+     * One end of the salary order: the first employees of the order, and whether that is every ranked employee.
+     * All access is synchronized on the instance, except for the loader, which runs without the lock.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    private final class Ranking {
+        final String name;
+        final Comparator<EmployeeDTO> order;
+        final TreeSet<EmployeeDTO> ranked;
+        final Map<Integer, EmployeeDTO> byId = new HashMap<>();
+        boolean loaded;
+        boolean complete;
+        long modificationCount;
+
+        Ranking(String name, Comparator<EmployeeDTO> order) {
+            this.name = name;
+            this.order = order;
+            this.ranked = new TreeSet<>(order);
+        }
+
+        List<EmployeeDTO> get(int count, IntFunction<List<EmployeeDTO>> loader) {
+            if (count > capacity) {
+                return loader.apply(count);
+            }
+            long expectedModificationCount;
+            synchronized (this) {
+                if (loaded && (complete || ranked.size() >= count)) {
+                    return ranked.stream().limit(count).toList();
+                }
+                expectedModificationCount = modificationCount;
+            }
+
+            List<EmployeeDTO> employees = loader.apply(capacity);
+            synchronized (this) {
+                // a write that arrived while loading may be missing from the result, keep the old state then
+                if (modificationCount == expectedModificationCount) {
+                    ranked.clear();
+                    byId.clear();
+                    employees.forEach(this::add);
+                    loaded = true;
+                    complete = employees.size() < capacity;
+                    log.debug(CACHE_MARKER, "Loaded {} {} paid employees", employees.size(), name);
+                }
+            }
+            return employees.stream().limit(count).toList();
+        }
+
+        synchronized void update(EmployeeDTO employee) {
+            modificationCount++;
+            removeById(employee.id());
+            if (!loaded || employee.salary() == null) {
+                return;
+            }
+            // only the first employees of the order are known, one ranked after them may be preceded by unknown ones
+            if (complete || (!ranked.isEmpty() && order.compare(employee, ranked.last()) < 0)) {
+                add(employee);
+                if (ranked.size() > capacity) {
+                    byId.remove(ranked.pollLast().id());
+                    complete = false;
+                }
+            }
+        }
+
+        synchronized void remove(Integer id) {
+            modificationCount++;
+            removeById(id);
+        }
+
+        synchronized void invalidate() {
+            modificationCount++;
+            ranked.clear();
+            byId.clear();
+            loaded = false;
+            complete = false;
+        }
+
+        private void add(EmployeeDTO employee) {
+            ranked.add(employee);
+            byId.put(employee.id(), employee);
+        }
+
+        private void removeById(Integer id) {
+            EmployeeDTO previous = byId.remove(id);
+            if (previous != null) {
+                ranked.remove(previous);
+            }
+        }
+    }
+}
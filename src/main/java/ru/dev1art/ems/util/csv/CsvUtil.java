@@ -0,0 +1,98 @@
+package ru.dev1art.ems.util.csv;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Utility class for reading and writing single CSV records as described in RFC 4180:
+ * comma separated fields, optionally enclosed in double quotes, with embedded quotes doubled.
+ * Records are handled one line at a time, so files of any size can be streamed.
+ * Quoted fields spanning several lines are not supported.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CsvUtil {
+    static final char SEPARATOR = ',';
+    static final char QUOTE = '"';
+
+    /**
+     * Splits a CSV line into its fields.
+     *
+     * @param line The line to parse, without the line terminator.
+     * @return The unquoted field values. An empty field is returned as an empty string.
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    public static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < line.length(); index++) {
+            char character = line.charAt(index);
+            if (quoted) {
+                if (character != QUOTE) {
+                    field.append(character);
+                } else if (index + 1 < line.length() && line.charAt(index + 1) == QUOTE) {
+                    field.append(QUOTE);
+                    index++;
+                } else {
+                    quoted = false;
+                }
+            } else if (character == QUOTE) {
+                quoted = true;
+            } else if (character == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(character);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Appends a record to the builder, quoting fields where necessary. Null values are written as empty fields.
+     *
+     * @param builder The builder to append to.
+     * @param values The field values.
+     * @return The given builder, for chaining.
+     */
+    public static StringBuilder appendRecord(StringBuilder builder, Object... values) {
+        for (int index = 0; index < values.length; index++) {
+            if (index > 0) {
+                builder.append(SEPARATOR);
+            }
+            if (values[index] != null) {
+                appendField(builder, values[index].toString());
+            }
+        }
+        return builder.append('\n');
+    }
+
+    private static void appendField(StringBuilder builder, String value) {
+        boolean needsQuotes = value.indexOf(SEPARATOR) >= 0 || value.indexOf(QUOTE) >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuotes) {
+            builder.append(value);
+            return;
+        }
+        builder.append(QUOTE);
+        for (int index = 0; index < value.length(); index++) {
+            char character = value.charAt(index);
+            if (character == QUOTE) {
+                builder.append(QUOTE);
+            }
+            builder.append(character);
+        }
+        builder.append(QUOTE);
+    }
+}
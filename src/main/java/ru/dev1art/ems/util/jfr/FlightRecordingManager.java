@@ -0,0 +1,97 @@
+package ru.dev1art.ems.util.jfr;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+ * Starts and stops a flight recording of the running application on demand, so that a slow session
+ * can be captured from the menu without restarting with -XX:StartFlightRecording.
+ * The recording uses the JDK settings given by ems.jfr.settings, profile by default, and the EMS events
+ * ({@link FxmlLoadEvent}, {@link ServiceCallEvent}, {@link TableRefreshEvent}, {@link LocaleSwitchEvent})
+ * are recorded with their default settings, enabled without a threshold.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FlightRecordingManager {
+    static final Marker JFR_MARKER = MarkerFactory.getMarker("JFR");
+    final String settings;
+    Recording recording;
+
+    public FlightRecordingManager(@Value("${ems.jfr.settings:profile}") String settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * Tells whether a recording started by this manager is running.
+     *
+     * @return True while recording.
+     */
+    public synchronized boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Starts a recording. Does nothing if one is already running.
+     *
+     * @throws IOException if the settings cannot be read.
+     * @throws ParseException if the settings are malformed.
+     */
+    public synchronized void start() throws IOException, ParseException {
+        if (recording != null) {
+            return;
+        }
+        Recording newRecording = new Recording(Configuration.getConfiguration(settings));
+        newRecording.setName("EMS");
+        newRecording.start();
+        recording = newRecording;
+        log.info(JFR_MARKER, "Flight recording started with {} settings", settings);
+    }
+
+    /**
+     * Stops the running recording and writes it to a file.
+     *
+     * @param destination The file to write, usually with the .jfr extension.
+     * @throws IOException if the recording cannot be written.
+     * @throws IllegalStateException if no recording is running.
+     */
+    public synchronized void dumpAndStop(Path destination) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        try (Recording stopped = recording) {
+            recording = null;
+            stopped.stop();
+            stopped.dump(destination);
+            log.info(JFR_MARKER, "Flight recording written to {}", destination);
+        }
+    }
+
+    /**
+     * Discards a recording that is still running when the application shuts down.
+     */
+    @PreDestroy
+    public synchronized void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            log.info(JFR_MARKER, "Flight recording discarded");
+        }
+    }
+}
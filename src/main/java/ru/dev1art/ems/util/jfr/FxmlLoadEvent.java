@@ -0,0 +1,28 @@
+package ru.dev1art.ems.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning the load of one FXML view, controller creation and initialization included.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Name("ru.dev1art.ems.FxmlLoad")
+@Label("FXML Load")
+@Category({"EMS", "UI"})
+@Description("Loading of an FXML view")
+public class FxmlLoadEvent extends Event {
+    @Label("FXML")
+    final String fxml;
+
+    public FxmlLoadEvent(String fxml) {
+        this.fxml = fxml;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.dev1art.ems.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning a locale switch, the locale listeners and invalidated bindings included.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Name("ru.dev1art.ems.LocaleSwitch")
+@Label("Locale Switch")
+@Category({"EMS", "I18N"})
+@Description("Switch of the application locale")
+public class LocaleSwitchEvent extends Event {
+    @Label("From")
+    final String from;
+
+    @Label("To")
+    final String to;
+
+    public LocaleSwitchEvent(String from, String to) {
+        this.from = from;
+        this.to = to;
+    }
+}
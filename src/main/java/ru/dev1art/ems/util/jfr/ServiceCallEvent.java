@@ -0,0 +1,47 @@
+package ru.dev1art.ems.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning one EmployeeService or EmployeeRepository call.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Name("ru.dev1art.ems.ServiceCall")
+@Label("Service Call")
+@Category({"EMS", "Data"})
+@Description("Call of an employee service or repository method")
+public class ServiceCallEvent extends Event {
+    @Label("Layer")
+    final String layer;
+
+    @Label("Method")
+    final String method;
+
+    @Label("Rows")
+    @Description("Employees returned, or -1 if the result does not contain employees")
+    int rows = -1;
+
+    @Label("Exception")
+    String exception;
+
+    public ServiceCallEvent(String layer, String method) {
+        this.layer = layer;
+        this.method = method;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public void setException(Throwable throwable) {
+        this.exception = throwable.getClass().getName();
+    }
+}
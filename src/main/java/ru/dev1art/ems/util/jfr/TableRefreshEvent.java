@@ -0,0 +1,47 @@
+package ru.dev1art.ems.util.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event spanning a reload or refresh of the employee table, from the request on the FX thread
+ * until the fetched rows are applied to the table, the background query included.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Name("ru.dev1art.ems.TableRefresh")
+@Label("Table Refresh")
+@Category({"EMS", "UI"})
+@Description("Reload of the first page or incremental refresh of the employee table")
+public class TableRefreshEvent extends Event {
+    public static final String FULL = "full";
+    public static final String INCREMENTAL = "incremental";
+
+    @Label("Mode")
+    final String mode;
+
+    @Label("Rows")
+    @Description("Employees loaded, or changed employees fetched for an incremental refresh")
+    int rows;
+
+    @Label("Failed")
+    boolean failed;
+
+    public TableRefreshEvent(String mode) {
+        this.mode = mode;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public void setFailed(boolean failed) {
+        this.failed = failed;
+    }
+}
@@ -9,14 +9,18 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import ru.dev1art.ems.util.jfr.LocaleSwitchEvent;
 import java.text.MessageFormat;
 import java.util.*;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for internationalization (I18N) functionalities.
  * This class provides methods to manage locale settings,
  * localize strings based on keys, and create bindings for localized strings.
+ * Resource bundles and compiled message formats are cached per locale and key, and the cache is cleared
+ * whenever the locale changes.
  *
  * @author Dev1Art
  * @project EMS
@@ -26,12 +30,17 @@ import java.util.concurrent.Callable;
 @Slf4j
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class I18NUtil {
+    static final String BUNDLE_NAME = "ru.dev1art.ems.lang.text";
     static final ObjectProperty<Locale> locale;
     static final Marker I18N_MARKER = MarkerFactory.getMarker("I18N");
+    static final Map<Locale, ResourceBundle> bundles = new ConcurrentHashMap<>();
+    static final Map<MessageKey, Message> messages = new ConcurrentHashMap<>();
+    static final Map<String, StringBinding> sharedBindings = new ConcurrentHashMap<>();
 
     static {
         locale = new SimpleObjectProperty<>(getDefaultLocale());
         locale.addListener((observable, oldValue, newValue) -> {
+            clearCache();
             Locale.setDefault(newValue);
             log.debug(I18N_MARKER, "Locale changed to: {}", newValue);
         });
@@ -73,12 +82,16 @@ public class I18NUtil {
     /**
      * Sets the current locale for the application.
      * This updates the locale property and sets the default locale accordingly.
+     * The switch is recorded as a {@link LocaleSwitchEvent}.
      *
      * @param locale The new Locale to set.
      */
     public static void setLocale(Locale locale) {
+        LocaleSwitchEvent event = new LocaleSwitchEvent(String.valueOf(getLocale()), String.valueOf(locale));
+        event.begin();
         localeProperty().set(locale);
         Locale.setDefault(locale);
+        event.commit();
     }
 
     /**
@@ -95,6 +108,8 @@ public class I18NUtil {
 
     /**
      * Creates a StringBinding for a localized string based on a key and optional arguments.
+     * Every call creates a new binding listening to the locale, labels bound to a plain key
+     * should use {@link #getStringBinding(String)} instead.
      *
      * @param key The key for the localized string.
      * @param args Optional arguments to format the localized string.
@@ -105,6 +120,19 @@ public class I18NUtil {
         return Bindings.createStringBinding(() -> localize(key, args), locale);
     }
 
+    /**
+     * Returns the StringBinding of a key shared by every property bound to that key.
+     * Shared bindings are created on first use and never disposed, so views can rebind their labels
+     * as often as they like, and a locale change invalidates one binding per key rather than
+     * one per binding ever created.
+     *
+     * @param key The key for the localized string.
+     * @return The shared StringBinding of the key.
+     */
+    public static StringBinding getStringBinding(final String key) {
+        return sharedBindings.computeIfAbsent(key, I18NUtil::createStringBinding);
+    }
+
     /**
      * Creates a StringBinding using a Callable that returns a localized string.
      *
@@ -126,14 +154,63 @@ public class I18NUtil {
     public static String localize(final String key, final Object... args) {
         log.trace(I18N_MARKER, "Localizing key: {}", key);
 
+        Locale currentLocale = getLocale();
         try {
-            ResourceBundle resourceBundle = ResourceBundle.getBundle("ru.dev1art.ems.lang.text", getLocale());
-            String localizedString = MessageFormat.format(resourceBundle.getString(key), args);
+            Message message = messages.get(new MessageKey(currentLocale, key));
+            if (message == null) {
+                message = compile(currentLocale, key);
+            }
+            String localizedString = message.format(args);
             log.trace(I18N_MARKER, "Localized string: {}", localizedString);
             return localizedString;
         } catch (MissingResourceException exception) {
-            log.error("Missing resource for key: {}. Locale: {}", key, getLocale(), exception);
+            log.error("Missing resource for key: {}. Locale: {}", key, currentLocale, exception);
             return key;
         }
     }
+
+    /**
+     * Looks up the pattern of a key in the bundle of a locale and caches it compiled.
+     *
+     * @param locale The locale.
+     * @param key The key for the localized string.
+     * @return The compiled message.
+     * @throws MissingResourceException if the key or the bundle is missing.
+     */
+    private static Message compile(Locale locale, String key) {
+        ResourceBundle resourceBundle = bundles.computeIfAbsent(locale,
+                bundleLocale -> ResourceBundle.getBundle(BUNDLE_NAME, bundleLocale));
+        MessageFormat format = new MessageFormat(resourceBundle.getString(key), locale);
+        Message message = new Message(format, format.format(new Object[0]));
+        if (locale.equals(getLocale())) {
+            messages.put(new MessageKey(locale, key), message);
+        }
+        return message;
+    }
+
+    /**
+     * Drops the cached bundles and messages, e.g. after the locale has changed.
+     */
+    static void clearCache() {
+        bundles.clear();
+        messages.clear();
+        log.trace(I18N_MARKER, "Localization cache cleared");
+    }
+
+    private record MessageKey(Locale locale, String key) { }
+
+    /**
+     * A compiled message pattern and its text without arguments, which is what most labels show.
+     * Message formats are not thread-safe, so formatting with arguments is synchronized on the format.
+     */
+    private record Message(MessageFormat format, String text) {
+        String format(Object... args) {
+            if (args == null || args.length == 0) {
+                return text;
+            }
+            synchronized (format) {
+                return format.format(args);
+            }
+        }
+    }
 }
@@ -1,19 +1,28 @@
 package ru.dev1art.ems.util.lang;
 
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Singleton class responsible for managing localization settings in the application.
  * It allows setting the current locale, notifying listeners of locale changes,
  * and providing access to the current locale.
+ * Listeners are held weakly, so a listener that is no longer referenced elsewhere is dropped
+ * instead of being kept alive and notified forever. Listeners of a view can also be tied to its window,
+ * so that they are only registered while the window is showing.
  *
  * @author Dev1Art
  * @project EMS
@@ -26,7 +35,7 @@ public class LocalizationManager {
     static final Marker I18N_MARKER = MarkerFactory.getMarker("I18N");
     static LocalizationManager instance;
     @Getter Locale currentLocale;
-    @Getter final List<LocaleChangeListener> listeners = new ArrayList<>();
+    final List<WeakReference<LocaleChangeListener>> listeners = new ArrayList<>();
 
     /**
      * Private constructor to prevent instantiation from outside the class.
@@ -65,23 +74,98 @@ public class LocalizationManager {
 
     /**
      * Adds a listener that will be notified when the locale changes.
+     * The listener is held weakly, the caller has to keep a reference to it for as long as it should be notified.
+     * Adding a listener that is already registered has no effect.
      *
      * @param listener The LocaleChangeListener to add.
      */
-    public void addLocaleChangeListener(LocaleChangeListener listener) {
-        listeners.add(listener);
+    public synchronized void addLocaleChangeListener(LocaleChangeListener listener) {
+        if (getListeners().contains(listener)) {
+            return;
+        }
+        listeners.add(new WeakReference<>(listener));
         log.debug(I18N_MARKER, "LocaleChangeListener added: {}", listener.getClass().getName());
     }
 
+    /**
+     * Adds a listener that is registered only while the window of the given node is showing.
+     * The listener is removed when the window is hidden or closed, and added again when it is shown,
+     * being notified right away if the locale has changed in the meantime.
+     *
+     * @param listener The LocaleChangeListener to add.
+     * @param node A node of the view the listener belongs to.
+     */
+    public void addLocaleChangeListener(LocaleChangeListener listener, Node node) {
+        addLocaleChangeListener(listener, node.sceneProperty()
+                .flatMap(Scene::windowProperty)
+                .flatMap(Window::showingProperty)
+                .orElse(false));
+    }
+
+    /**
+     * Adds a listener that is registered only while the given condition holds, and notified
+     * when the condition starts to hold again if the locale has changed in the meantime.
+     *
+     * @param listener The LocaleChangeListener to add.
+     * @param active Whether the listener is to be registered.
+     */
+    public void addLocaleChangeListener(LocaleChangeListener listener, ObservableValue<Boolean> active) {
+        Locale[] deliveredLocale = {currentLocale};
+        active.addListener((observable, wasActive, isActive) -> {
+            if (isActive) {
+                addLocaleChangeListener(listener);
+                if (!Objects.equals(deliveredLocale[0], currentLocale)) {
+                    listener.localeChanged(currentLocale);
+                }
+            } else {
+                removeLocaleChangeListener(listener);
+                deliveredLocale[0] = currentLocale;
+            }
+        });
+        if (active.getValue()) {
+            addLocaleChangeListener(listener);
+        }
+    }
+
+    /**
+     * Removes a listener, if it is registered.
+     *
+     * @param listener The LocaleChangeListener to remove.
+     */
+    public synchronized void removeLocaleChangeListener(LocaleChangeListener listener) {
+        if (listeners.removeIf(reference -> reference.get() == listener)) {
+            log.debug(I18N_MARKER, "LocaleChangeListener removed: {}", listener.getClass().getName());
+        }
+    }
+
+    /**
+     * Returns the registered listeners that are still referenced, dropping the ones that have been
+     * garbage collected.
+     *
+     * @return A snapshot of the registered listeners.
+     */
+    public synchronized List<LocaleChangeListener> getListeners() {
+        listeners.removeIf(reference -> reference.get() == null);
+        List<LocaleChangeListener> liveListeners = new ArrayList<>(listeners.size());
+        for (WeakReference<LocaleChangeListener> reference : listeners) {
+            LocaleChangeListener listener = reference.get();
+            if (listener != null) {
+                liveListeners.add(listener);
+            }
+        }
+        return liveListeners;
+    }
+
     /**
      * Notifies all registered listeners of a change in the locale.
      *
      * @param newLocale The new Locale that has been set.
      */
     private void notifyLocaleChange(Locale newLocale) {
-        log.debug(I18N_MARKER, "Notifying {} listeners of locale change to {}", listeners.size(), newLocale);
-        for (LocaleChangeListener listener : listeners) {
+        List<LocaleChangeListener> liveListeners = getListeners();
+        log.debug(I18N_MARKER, "Notifying {} listeners of locale change to {}", liveListeners.size(), newLocale);
+        for (LocaleChangeListener listener : liveListeners) {
             listener.localeChanged(newLocale);
         }
     }
-}
\ No newline at end of file
+}
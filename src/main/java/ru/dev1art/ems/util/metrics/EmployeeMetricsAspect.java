@@ -0,0 +1,154 @@
+package ru.dev1art.ems.util.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import org.springframework.stereotype.Component;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeImportResultDTO;
+import ru.dev1art.ems.domain.model.Employee;
+import ru.dev1art.ems.util.jfr.ServiceCallEvent;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records a timer, a counter of returned rows and an error counter for every public EmployeeService method
+ * and every EmployeeRepository query. Meters are named ems.{layer}.calls, ems.{layer}.rows and ems.{layer}.errors,
+ * with the layer being service or repository, and are tagged with the method name.
+ * The timers publish their 50th, 95th and 99th percentiles, so slow shortcuts can be alerted on.
+ * Methods returning a stream are timed until the stream is handed out, not until it is consumed.
+ * Every call is also emitted as a {@link ServiceCallEvent} while a flight recording is running.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@Aspect
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+@RequiredArgsConstructor
+public class EmployeeMetricsAspect {
+    static final Marker METRICS_MARKER = MarkerFactory.getMarker("METRICS");
+    static final String SERVICE_LAYER = "service";
+    static final String REPOSITORY_LAYER = "repository";
+    static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    static final int NO_ROWS = -1;
+    MeterRegistry meterRegistry;
+    Map<String, MethodMeters> metersByMethod = new ConcurrentHashMap<>();
+
+    @Around("execution(public * ru.dev1art.ems.services.EmployeeService.*(..))")
+    public Object measureService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(SERVICE_LAYER, joinPoint);
+    }
+
+    @Around("execution(* ru.dev1art.ems.repos.EmployeeRepository+.*(..))")
+    public Object measureRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(REPOSITORY_LAYER, joinPoint);
+    }
+
+    /**
+     * Runs the method and records its duration, the rows it returned or the exception it threw,
+     * as meters and as a flight recorder event.
+     *
+     * @param layer The layer the method belongs to.
+     * @param joinPoint The method call.
+     * @return The result of the method.
+     * @throws Throwable whatever the method throws.
+     */
+    Object measure(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodMeters meters = metersByMethod.computeIfAbsent(layer + "." + joinPoint.getSignature().getName(),
+                key -> new MethodMeters(layer, joinPoint.getSignature().getName()));
+        ServiceCallEvent event = new ServiceCallEvent(layer, joinPoint.getSignature().getName());
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            int rows = countRows(result);
+            meters.success(System.nanoTime() - start, rows);
+            event.setRows(rows);
+            return result;
+        } catch (Throwable throwable) {
+            meters.failure(System.nanoTime() - start, throwable);
+            event.setException(throwable);
+            throw throwable;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Counts the employees in a method result.
+     *
+     * @param result The result.
+     * @return The number of employees, or {@link #NO_ROWS} if the result does not contain employees.
+     */
+    static int countRows(Object result) {
+        return switch (result) {
+            case Collection<?> collection -> collection.size();
+            case Optional<?> optional -> optional.isPresent() ? 1 : 0;
+            case EmployeeDTO ignored -> 1;
+            case Employee ignored -> 1;
+            case EmployeeChangesDTO changes -> changes.changedEmployees().size();
+            case EmployeeImportResultDTO importResult -> importResult.importedRows();
+            case null, default -> NO_ROWS;
+        };
+    }
+
+    /**
+     * The meters of one method. Error counters are registered per exception type on first occurrence.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private final class MethodMeters {
+        String layer;
+        String method;
+        Timer timer;
+        Counter rows;
+
+        MethodMeters(String layer, String method) {
+            this.layer = layer;
+            this.method = method;
+            this.timer = Timer.builder("ems." + layer + ".calls")
+                    .description("Duration of " + layer + " calls, failed ones included")
+                    .tag("method", method)
+                    .publishPercentiles(PERCENTILES)
+                    .register(meterRegistry);
+            this.rows = Counter.builder("ems." + layer + ".rows")
+                    .description("Employees returned")
+                    .tag("method", method)
+                    .register(meterRegistry);
+            log.debug(METRICS_MARKER, "Registered meters for {} method {}", layer, method);
+        }
+
+        void success(long nanos, int rowCount) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            if (rowCount > 0) {
+                rows.increment(rowCount);
+            }
+        }
+
+        void failure(long nanos, Throwable throwable) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+            Counter.builder("ems." + layer + ".errors")
+                    .description("Failed " + layer + " calls")
+                    .tag("method", method)
+                    .tag("exception", throwable.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
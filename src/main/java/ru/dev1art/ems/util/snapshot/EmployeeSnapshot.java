@@ -0,0 +1,330 @@
+package ru.dev1art.ems.util.snapshot;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Immutable column-oriented copy of all employees.
+ * Every attribute is stored in its own array, dates as epoch days and salaries as cents, so the analytic filters
+ * run as tight loops over primitive arrays without creating an object per employee. Only the matching rows
+ * are turned into {@link EmployeeDTO}s. Missing values are stored as {@link #NO_VALUE} and never match a filter.
+ * Large snapshots are scanned in parallel as configured by their {@link ParallelScan}.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class EmployeeSnapshot {
+    public static final int NO_VALUE = Integer.MIN_VALUE;
+    public static final long NO_SALARY = Long.MIN_VALUE;
+    public static final long NO_VERSION = Long.MIN_VALUE;
+    @Getter int size;
+    @Getter Instant loadedAt;
+    @Getter ParallelScan parallelScan;
+    int[] ids;
+    String[] lastNames;
+    String[] positions;
+    int[] birthDays;
+    int[] hireDays;
+    int[] departmentNumbers;
+    long[] salaryCents;
+    long[] versions;
+
+    private EmployeeSnapshot(Builder builder, Instant loadedAt) {
+        this.size = builder.size;
+        this.loadedAt = loadedAt;
+        this.parallelScan = builder.parallelScan;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.lastNames = Arrays.copyOf(builder.lastNames, size);
+        this.positions = Arrays.copyOf(builder.positions, size);
+        this.birthDays = Arrays.copyOf(builder.birthDays, size);
+        this.hireDays = Arrays.copyOf(builder.hireDays, size);
+        this.departmentNumbers = Arrays.copyOf(builder.departmentNumbers, size);
+        this.salaryCents = Arrays.copyOf(builder.salaryCents, size);
+        this.versions = Arrays.copyOf(builder.versions, size);
+    }
+
+    private EmployeeSnapshot(EmployeeSnapshot snapshot, ParallelScan parallelScan) {
+        this.size = snapshot.size;
+        this.loadedAt = snapshot.loadedAt;
+        this.parallelScan = parallelScan;
+        this.ids = snapshot.ids;
+        this.lastNames = snapshot.lastNames;
+        this.positions = snapshot.positions;
+        this.birthDays = snapshot.birthDays;
+        this.hireDays = snapshot.hireDays;
+        this.departmentNumbers = snapshot.departmentNumbers;
+        this.salaryCents = snapshot.salaryCents;
+        this.versions = snapshot.versions;
+    }
+
+    /**
+     * Creates a builder for a snapshot.
+     *
+     * @param expectedSize The expected number of employees, used to size the columns up front.
+     * @return A new builder.
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Returns a snapshot of the same employees that scans as configured by the given parallel scan.
+     * The columns are shared, not copied.
+     *
+     * @param parallelScan How to scan the columns.
+     * @return The snapshot.
+     */
+    public EmployeeSnapshot withParallelScan(ParallelScan parallelScan) {
+        return new EmployeeSnapshot(this, parallelScan);
+    }
+
+    /**
+     * Finds the rows of employees in a department born after the given date.
+     *
+     * @param departmentNumber The department number.
+     * @param bornAfter The exclusive lower bound of the birth date.
+     * @return The matching rows, in ascending order.
+     */
+    public int[] findInDepartmentBornAfter(int departmentNumber, LocalDate bornAfter) {
+        if (departmentNumber == NO_VALUE) {
+            return new int[0];
+        }
+        int bornAfterDay = Math.toIntExact(bornAfter.toEpochDay());
+        int[] departments = departmentNumbers;
+        int[] births = birthDays;
+        return find((from, to, rows) -> {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                if (departments[row] == departmentNumber && births[row] > bornAfterDay) {
+                    rows[count++] = row;
+                }
+            }
+            return count;
+        });
+    }
+
+    /**
+     * Finds the rows of employees hired on or before the given date.
+     *
+     * @param hiredOnOrBefore The inclusive upper bound of the hire date.
+     * @return The matching rows, in ascending order.
+     */
+    public int[] findHiredOnOrBefore(LocalDate hiredOnOrBefore) {
+        return findOnOrBefore(hireDays, Math.toIntExact(hiredOnOrBefore.toEpochDay()));
+    }
+
+    /**
+     * Finds the rows of employees born on or before the given date.
+     *
+     * @param bornOnOrBefore The inclusive upper bound of the birth date.
+     * @return The matching rows, in ascending order.
+     */
+    public int[] findBornOnOrBefore(LocalDate bornOnOrBefore) {
+        return findOnOrBefore(birthDays, Math.toIntExact(bornOnOrBefore.toEpochDay()));
+    }
+
+    private int[] findOnOrBefore(int[] days, int lastDay) {
+        return find((from, to, rows) -> {
+            int count = 0;
+            for (int row = from; row < to; row++) {
+                int day = days[row];
+                if (day <= lastDay && day != NO_VALUE) {
+                    rows[count++] = row;
+                }
+            }
+            return count;
+        });
+    }
+
+    private int[] find(RangeFilter filter) {
+        if (!parallelScan.isParallel(size)) {
+            return filter.collect(0, size);
+        }
+        return parallelScan.pool().invoke(new RangeTask(filter, 0, size, parallelScan.rangeSize(size)));
+    }
+
+    /**
+     * Creates the EmployeeDTOs of the given rows.
+     *
+     * @param rows The rows, e.g. as returned by one of the find methods.
+     * @return The employees in the order of the rows.
+     */
+    public List<EmployeeDTO> toDtos(int[] rows) {
+        List<EmployeeDTO> employees = new ArrayList<>(rows.length);
+        for (int row : rows) {
+            employees.add(toDto(row));
+        }
+        return employees;
+    }
+
+    /**
+     * Creates the EmployeeDTO of a row.
+     *
+     * @param row The row.
+     * @return The employee stored in the row.
+     */
+    public EmployeeDTO toDto(int row) {
+        return new EmployeeDTO(
+                ids[row],
+                lastNames[row],
+                positions[row],
+                birthDays[row] == NO_VALUE ? null : LocalDate.ofEpochDay(birthDays[row]),
+                hireDays[row] == NO_VALUE ? null : LocalDate.ofEpochDay(hireDays[row]),
+                departmentNumbers[row] == NO_VALUE ? null : departmentNumbers[row],
+                salaryCents[row] == NO_SALARY ? null : BigDecimal.valueOf(salaryCents[row], 2),
+                versions[row] == NO_VERSION ? null : versions[row]);
+    }
+
+    /**
+     * Scans a range of rows for matches.
+     */
+    @FunctionalInterface
+    private interface RangeFilter {
+
+        /**
+         * Writes the matching rows of the range to the start of the given array.
+         *
+         * @return The number of matching rows.
+         */
+        int filter(int from, int to, int[] rows);
+
+        default int[] collect(int from, int to) {
+            int[] rows = new int[to - from];
+            return Arrays.copyOf(rows, filter(from, to, rows));
+        }
+    }
+
+    /**
+     * Splits the rows in halves until a range is small enough to be scanned by a single task,
+     * then joins the matches of both halves in row order.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    private static final class RangeTask extends RecursiveTask<int[]> {
+        RangeFilter filter;
+        int from;
+        int to;
+        int rangeSize;
+
+        RangeTask(RangeFilter filter, int from, int to, int rangeSize) {
+            this.filter = filter;
+            this.from = from;
+            this.to = to;
+            this.rangeSize = rangeSize;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (to - from <= rangeSize) {
+                return filter.collect(from, to);
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask lower = new RangeTask(filter, from, middle, rangeSize);
+            lower.fork();
+            int[] upperRows = new RangeTask(filter, middle, to, rangeSize).compute();
+            int[] lowerRows = lower.join();
+            int[] rows = Arrays.copyOf(lowerRows, lowerRows.length + upperRows.length);
+            System.arraycopy(upperRows, 0, rows, lowerRows.length, upperRows.length);
+            return rows;
+        }
+    }
+
+    /**
+     * Collects employees into growing columns.
+     */
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static final class Builder {
+        int size;
+        int[] ids;
+        String[] lastNames;
+        String[] positions;
+        int[] birthDays;
+        int[] hireDays;
+        int[] departmentNumbers;
+        long[] salaryCents;
+        long[] versions;
+        ParallelScan parallelScan = ParallelScan.SEQUENTIAL;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            ids = new int[capacity];
+            lastNames = new String[capacity];
+            positions = new String[capacity];
+            birthDays = new int[capacity];
+            hireDays = new int[capacity];
+            departmentNumbers = new int[capacity];
+            salaryCents = new long[capacity];
+            versions = new long[capacity];
+        }
+
+        /**
+         * Appends an employee.
+         *
+         * @param employee The employee, which must have an ID.
+         * @return This builder.
+         */
+        public Builder add(EmployeeDTO employee) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = employee.id();
+            lastNames[size] = employee.lastName();
+            positions[size] = employee.position();
+            birthDays[size] = employee.birthDate() == null
+                    ? NO_VALUE : Math.toIntExact(employee.birthDate().toEpochDay());
+            hireDays[size] = employee.hireDate() == null
+                    ? NO_VALUE : Math.toIntExact(employee.hireDate().toEpochDay());
+            departmentNumbers[size] = employee.departmentNumber() == null ? NO_VALUE : employee.departmentNumber();
+            salaryCents[size] = employee.salary() == null
+                    ? NO_SALARY : employee.salary().setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            versions[size] = employee.version() == null ? NO_VERSION : employee.version();
+            size++;
+            return this;
+        }
+
+        /**
+         * Sets how the snapshot scans its columns, sequentially by default.
+         *
+         * @param parallelScan How to scan the columns.
+         * @return This builder.
+         */
+        public Builder parallelScan(ParallelScan parallelScan) {
+            this.parallelScan = parallelScan;
+            return this;
+        }
+
+        /**
+         * Creates the snapshot from the employees added so far.
+         *
+         * @param loadedAt The time the employees were read.
+         * @return The snapshot.
+         */
+        public EmployeeSnapshot build(Instant loadedAt) {
+            return new EmployeeSnapshot(this, loadedAt);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            lastNames = Arrays.copyOf(lastNames, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            birthDays = Arrays.copyOf(birthDays, capacity);
+            hireDays = Arrays.copyOf(hireDays, capacity);
+            departmentNumbers = Arrays.copyOf(departmentNumbers, capacity);
+            salaryCents = Arrays.copyOf(salaryCents, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+        }
+    }
+}
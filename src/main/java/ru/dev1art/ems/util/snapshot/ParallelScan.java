@@ -0,0 +1,49 @@
+package ru.dev1art.ems.util.snapshot;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Decides how the filters of an {@link EmployeeSnapshot} scan their columns.
+ * Snapshots with at least threshold employees are split into ranges that are scanned in parallel on the pool,
+ * smaller ones are scanned sequentially on the calling thread, where forking would cost more than it saves.
+ *
+ * @param pool The pool running parallel scans, or null to always scan sequentially.
+ * @param threshold The minimum number of employees for a parallel scan.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public record ParallelScan(ForkJoinPool pool, int threshold) {
+    public static final ParallelScan SEQUENTIAL = new ParallelScan(null, Integer.MAX_VALUE);
+    static final int MIN_RANGE_SIZE = 16 * 1024;
+    static final int RANGES_PER_THREAD = 4;
+
+    public ParallelScan {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Parallel scan threshold must not be negative");
+        }
+    }
+
+    /**
+     * Tells whether a snapshot of the given size is scanned in parallel.
+     *
+     * @param size The number of employees.
+     * @return True for a parallel scan.
+     */
+    public boolean isParallel(int size) {
+        return pool != null && pool.getParallelism() > 1 && size >= threshold;
+    }
+
+    /**
+     * Returns the number of employees scanned by one task, so that every thread of the pool gets a few
+     * ranges to balance uneven progress, but no range is so small that forking it dominates.
+     *
+     * @param size The number of employees.
+     * @return The maximum size of a range.
+     */
+    int rangeSize(int size) {
+        return Math.max(MIN_RANGE_SIZE, size / (pool.getParallelism() * RANGES_PER_THREAD));
+    }
+}
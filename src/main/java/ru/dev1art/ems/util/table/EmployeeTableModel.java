@@ -0,0 +1,356 @@
+package ru.dev1art.ems.util.table;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Sliding window of employee pages backing the main table view.
+ * Pages are fetched by the caller with keyset queries anchored at {@link #getNextPageAnchor()}
+ * or {@link #getPreviousPageAnchor()} as the user scrolls towards either end of the window.
+ * The page farthest from the viewport is dropped once the window holds more than the configured number of pages,
+ * so memory stays bounded by the pages being viewed rather than by the table size.
+ * After a write the window is refreshed in place from the changes made since it was loaded,
+ * which keeps the selection and scroll position and only re-renders the rows that changed.
+ * Writes that are still queued are shown optimistically: edited rows show their pending values
+ * and new employees are listed at the end of the table, until the write is confirmed or rolled back.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@Slf4j
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeTableModel {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int DEFAULT_MAX_PAGES = 5;
+    static final Marker DATA_MARKER = MarkerFactory.getMarker("DATA");
+    @Getter final int pageSize;
+    final int maxPages;
+    @Getter final ObservableList<EmployeeDTO> items = FXCollections.observableArrayList();
+    final Deque<Integer> loadedPageSizes = new ArrayDeque<>();
+    @Getter boolean hasNextPage;
+    @Getter boolean hasPreviousPage;
+    @Getter Instant loadedAt;
+    final List<EmployeeDTO> pendingAdds = new ArrayList<>();
+    final Map<Integer, EmployeeDTO> pendingUpdates = new HashMap<>();
+    final Map<Integer, EmployeeDTO> originals = new HashMap<>();
+
+    /**
+     * Creates a table model with the default page size and window length.
+     */
+    public EmployeeTableModel() {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_MAX_PAGES);
+    }
+
+    /**
+     * Creates a table model.
+     *
+     * @param pageSize The number of employees fetched per page.
+     * @param maxPages The maximum number of pages kept in memory at once.
+     */
+    public EmployeeTableModel(int pageSize, int maxPages) {
+        if (pageSize <= 0 || maxPages < 2) {
+            throw new IllegalArgumentException("Page size must be positive and at least two pages must be kept");
+        }
+        this.pageSize = pageSize;
+        this.maxPages = maxPages;
+    }
+
+    /**
+     * Returns the employee after which the next page starts.
+     *
+     * @return The last loaded employee, or null if there is no next page.
+     */
+    public EmployeeDTO getNextPageAnchor() {
+        return hasNextPage && !items.isEmpty() ? items.get(items.size() - 1) : null;
+    }
+
+    /**
+     * Returns the employee before which the previous page ends.
+     *
+     * @return The first loaded employee, or null if there is no previous page.
+     */
+    public EmployeeDTO getPreviousPageAnchor() {
+        return hasPreviousPage && !items.isEmpty() ? items.get(0) : null;
+    }
+
+    /**
+     * Returns the lowest ID covered by the window. Open towards the start if there is no previous page.
+     *
+     * @return The ID of the first loaded employee, or {@link Integer#MIN_VALUE}.
+     */
+    public int getRefreshFromId() {
+        return hasPreviousPage && !items.isEmpty() ? items.get(0).id() : Integer.MIN_VALUE;
+    }
+
+    /**
+     * Returns the highest ID covered by the window. Open towards the end if there is no next page,
+     * so that newly added employees show up at the bottom of the table.
+     *
+     * @return The ID of the last loaded employee, or {@link Integer#MAX_VALUE}.
+     */
+    public int getRefreshToId() {
+        return hasNextPage && !items.isEmpty() ? items.get(items.size() - 1).id() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * Discards the current window and replaces it with the first page.
+     *
+     * @param page The first page of employees.
+     * @param loadedAt The database time read before the page was fetched, or null if unknown.
+     */
+    public void setFirstPage(List<EmployeeDTO> page, Instant loadedAt) {
+        log.debug(DATA_MARKER, "Resetting table model with first page of {} employees", page.size());
+        this.loadedAt = loadedAt;
+        loadedPageSizes.clear();
+        loadedPageSizes.addLast(page.size());
+        items.setAll(page);
+        hasPreviousPage = false;
+        hasNextPage = page.size() == pageSize;
+        originals.clear();
+        showPendingWrites();
+    }
+
+    /**
+     * Appends the page that follows the last loaded employee.
+     * If the window grows beyond its limit, the first page is dropped.
+     *
+     * @param page The page fetched after {@link #getNextPageAnchor()}.
+     * @return The number of rows removed from the head of the list.
+     */
+    public int appendPage(List<EmployeeDTO> page) {
+        hasNextPage = page.size() == pageSize;
+        if (page.isEmpty()) {
+            showPendingWrites();
+            return 0;
+        }
+        hidePendingAdds();
+        items.addAll(page);
+        loadedPageSizes.addLast(page.size());
+
+        int dropped = 0;
+        if (loadedPageSizes.size() > maxPages) {
+            dropped = loadedPageSizes.removeFirst();
+            items.remove(0, dropped);
+            hasPreviousPage = true;
+        }
+        showPendingWrites();
+        log.debug(DATA_MARKER, "Appended page of {} employees, dropped {}", page.size(), dropped);
+        return dropped;
+    }
+
+    /**
+     * Prepends the page that precedes the first loaded employee.
+     * If the window grows beyond its limit, the last page is dropped.
+     *
+     * @param page The page fetched before {@link #getPreviousPageAnchor()}, in table order.
+     * @return The number of rows inserted at the head of the list.
+     */
+    public int prependPage(List<EmployeeDTO> page) {
+        hasPreviousPage = page.size() == pageSize;
+        if (page.isEmpty()) {
+            return 0;
+        }
+        hidePendingAdds();
+        items.addAll(0, page);
+        loadedPageSizes.addFirst(page.size());
+
+        if (loadedPageSizes.size() > maxPages) {
+            int dropped = loadedPageSizes.removeLast();
+            items.remove(items.size() - dropped, items.size());
+            hasNextPage = true;
+        }
+        showPendingWrites();
+        log.debug(DATA_MARKER, "Prepended page of {} employees", page.size());
+        return page.size();
+    }
+
+    /**
+     * Applies the changes made since the window was loaded: updated rows are replaced, new rows are inserted
+     * at their ID position and deleted rows are removed, all in place.
+     *
+     * @param changes The changes made to the window's ID range since {@link #getLoadedAt()}.
+     */
+    public void applyChanges(EmployeeChangesDTO changes) {
+        hidePendingAdds();
+        Set<Integer> presentIds = new HashSet<>(changes.presentIds());
+        int sizeBefore = items.size();
+        items.removeIf(employee -> employee.id() >= changes.fromId() && employee.id() <= changes.toId()
+                && !presentIds.contains(employee.id()));
+        int removed = sizeBefore - items.size();
+
+        Map<Integer, Integer> indexById = new HashMap<>();
+        for (int index = 0; index < items.size(); index++) {
+            indexById.put(items.get(index).id(), index);
+        }
+        int updated = 0;
+        List<EmployeeDTO> inserted = new ArrayList<>();
+        for (EmployeeDTO employee : changes.changedEmployees()) {
+            Integer index = indexById.get(employee.id());
+            if (index != null) {
+                if (!items.get(index).equals(employee)) {
+                    items.set(index, employee);
+                    updated++;
+                }
+            } else if (presentIds.contains(employee.id())) {
+                inserted.add(employee);
+            }
+        }
+        Comparator<EmployeeDTO> byId = Comparator.comparing(EmployeeDTO::id);
+        for (EmployeeDTO employee : inserted) {
+            int position = Collections.binarySearch(items, employee, byId);
+            items.add(position < 0 ? -position - 1 : position, employee);
+        }
+
+        loadedPageSizes.clear();
+        for (int remaining = items.size(); remaining > 0; remaining -= pageSize) {
+            loadedPageSizes.addLast(Math.min(pageSize, remaining));
+        }
+        loadedAt = changes.loadedAt();
+        showPendingWrites();
+        log.debug(DATA_MARKER, "Applied changes: {} inserted, {} updated, {} removed",
+                inserted.size(), updated, removed);
+    }
+
+    /**
+     * Shows a queued write before it reaches the database. A new employee is listed at the end of the table
+     * once its last page is loaded, an edited employee is shown with the new values if it is loaded.
+     *
+     * @param employee The employee as it is going to be saved, without an ID if it is new.
+     */
+    public void showPending(EmployeeDTO employee) {
+        if (employee.id() == null) {
+            pendingAdds.add(employee);
+            if (!hasNextPage) {
+                items.add(employee);
+            }
+        } else {
+            pendingUpdates.put(employee.id(), employee);
+            int index = indexOfId(employee.id());
+            if (index >= 0) {
+                originals.putIfAbsent(employee.id(), items.get(index));
+                items.set(index, employee);
+            }
+        }
+    }
+
+    /**
+     * Replaces the pending rows of a written batch with the saved employees.
+     *
+     * @param pending The employees of the batch, as passed to {@link #showPending(EmployeeDTO)}.
+     * @param saved The saved employees, in the same order.
+     */
+    public void confirmPending(List<EmployeeDTO> pending, List<EmployeeDTO> saved) {
+        for (int i = 0; i < pending.size(); i++) {
+            EmployeeDTO employee = pending.get(i);
+            EmployeeDTO savedEmployee = saved.get(i);
+            if (employee.id() == null) {
+                removeSame(pendingAdds, employee);
+                int index = removeSame(items, employee);
+                if (index >= 0) {
+                    // New IDs are drawn from a sequence and follow every loaded one, so the row stays in place
+                    items.add(index, savedEmployee);
+                }
+            } else if (pendingUpdates.get(employee.id()) == employee) {
+                pendingUpdates.remove(employee.id());
+                originals.remove(employee.id());
+                int index = indexOfId(employee.id());
+                if (index >= 0) {
+                    items.set(index, savedEmployee);
+                }
+            } else if (originals.containsKey(employee.id())) {
+                // A newer edit of the same employee is still pending, it is rolled back to this one
+                originals.put(employee.id(), savedEmployee);
+            }
+        }
+        log.debug(DATA_MARKER, "Confirmed {} pending writes", pending.size());
+    }
+
+    /**
+     * Removes the pending rows of a failed batch, restoring the edited employees to their previous values.
+     *
+     * @param pending The employees of the batch, as passed to {@link #showPending(EmployeeDTO)}.
+     */
+    public void rollbackPending(List<EmployeeDTO> pending) {
+        for (EmployeeDTO employee : pending) {
+            if (employee.id() == null) {
+                removeSame(pendingAdds, employee);
+                removeSame(items, employee);
+            } else if (pendingUpdates.get(employee.id()) == employee) {
+                pendingUpdates.remove(employee.id());
+                EmployeeDTO original = originals.remove(employee.id());
+                int index = indexOfId(employee.id());
+                if (original != null && index >= 0) {
+                    items.set(index, original);
+                }
+            }
+        }
+        log.debug(DATA_MARKER, "Rolled back {} pending writes", pending.size());
+    }
+
+    /**
+     * Returns the number of writes shown that are not confirmed or rolled back yet.
+     *
+     * @return The number of pending new and edited employees.
+     */
+    public int getPendingCount() {
+        return pendingAdds.size() + pendingUpdates.size();
+    }
+
+    /**
+     * Takes the pending new employees out of the list, so that the loaded rows can be paged and refreshed by ID.
+     */
+    private void hidePendingAdds() {
+        if (!pendingAdds.isEmpty()) {
+            items.removeIf(employee -> employee.id() == null);
+        }
+    }
+
+    /**
+     * Puts the pending writes back over the loaded rows. Edited rows that were reloaded keep their reloaded values
+     * for a rollback.
+     */
+    private void showPendingWrites() {
+        hidePendingAdds();
+        if (!hasNextPage) {
+            items.addAll(pendingAdds);
+        }
+        for (EmployeeDTO employee : pendingUpdates.values()) {
+            int index = indexOfId(employee.id());
+            if (index >= 0 && items.get(index) != employee) {
+                originals.put(employee.id(), items.get(index));
+                items.set(index, employee);
+            }
+        }
+    }
+
+    private int indexOfId(Integer id) {
+        for (int index = 0; index < items.size(); index++) {
+            if (id.equals(items.get(index).id())) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int removeSame(List<EmployeeDTO> employees, EmployeeDTO employee) {
+        for (int index = 0; index < employees.size(); index++) {
+            if (employees.get(index) == employee) {
+                employees.remove(index);
+                return index;
+            }
+        }
+        return -1;
+    }
+}
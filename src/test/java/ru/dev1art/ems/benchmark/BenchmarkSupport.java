@@ -0,0 +1,58 @@
+package ru.dev1art.ems.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fixtures shared by the benchmarks.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+final class BenchmarkSupport {
+    static final LocalDate TODAY = LocalDate.now();
+
+    private BenchmarkSupport() {}
+
+    /**
+     * Raises the root log level to INFO, as configured for the application, so that the debug logging of the
+     * measured code is checked but not written, and console output does not dominate the results.
+     */
+    static void quietLogging() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.INFO);
+    }
+
+    /**
+     * Creates reproducible employees aged 18 to 65, spread over 10 departments.
+     *
+     * @param count The number of employees.
+     * @param withIds Whether to number the employees from 1, or leave the IDs to the database.
+     * @return The employees.
+     */
+    static List<EmployeeDTO> randomEmployees(int count, boolean withIds) {
+        Random random = new Random(42);
+        List<EmployeeDTO> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            LocalDate birthDate = TODAY.minusDays(18 * 365 + random.nextInt(47 * 365));
+            employees.add(EmployeeDTO.builder()
+                    .id(withIds ? i : null)
+                    .lastName("Employee" + i)
+                    .position("Position" + random.nextInt(20))
+                    .birthDate(birthDate)
+                    .hireDate(birthDate.plusYears(18).plusDays(random.nextInt(365 * 10)))
+                    .departmentNumber(1 + random.nextInt(10))
+                    .salary(BigDecimal.valueOf(30_000_00L + random.nextInt(170_000_00), 2))
+                    .build());
+        }
+        return employees;
+    }
+}
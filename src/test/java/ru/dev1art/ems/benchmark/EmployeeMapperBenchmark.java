@@ -0,0 +1,55 @@
+package ru.dev1art.ems.benchmark;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.mapper.EmployeeMapper;
+import ru.dev1art.ems.domain.model.Employee;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures mapping between employees and EmployeeDTOs, per operation on a list of the given size.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeMapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int employees;
+
+    EmployeeMapper employeeMapper;
+    List<EmployeeDTO> employeeDTOs;
+    List<Employee> employeeEntities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        employeeMapper = Mappers.getMapper(EmployeeMapper.class);
+        employeeDTOs = BenchmarkSupport.randomEmployees(employees, true);
+        employeeEntities = employeeDTOs.stream().map(employeeMapper::toEntity).toList();
+    }
+
+    @Benchmark
+    public void toDto(Blackhole blackhole) {
+        for (Employee employee : employeeEntities) {
+            blackhole.consume(employeeMapper.toDto(employee));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (EmployeeDTO employeeDTO : employeeDTOs) {
+            blackhole.consume(employeeMapper.toEntity(employeeDTO));
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package ru.dev1art.ems.benchmark;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.mapper.EmployeeMapper;
+import ru.dev1art.ems.services.EmployeeService;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the EmployeeService methods that work on form input and need no database,
+ * per operation on the given number of employees.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int employees;
+
+    EmployeeService employeeService;
+    List<EmployeeDTO> originalEmployees;
+    List<EmployeeDTO> updatedEmployees;
+    List<String[]> formInputs;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        employeeService = new EmployeeService(null, Mappers.getMapper(EmployeeMapper.class), null, null, null);
+        originalEmployees = BenchmarkSupport.randomEmployees(employees, true);
+        updatedEmployees = BenchmarkSupport.randomEmployees(employees, false);
+        formInputs = updatedEmployees.stream()
+                .map(employee -> new String[] {
+                        employee.lastName(),
+                        employee.position(),
+                        employee.birthDate().toString(),
+                        employee.hireDate().toString(),
+                        employee.departmentNumber().toString(),
+                        employee.salary().toPlainString()})
+                .toList();
+    }
+
+    @Benchmark
+    public void fromTextToDTO(Blackhole blackhole) {
+        for (String[] input : formInputs) {
+            blackhole.consume(employeeService.fromTextToDTO(input[0], input[1], input[2], input[3], input[4], input[5]));
+        }
+    }
+
+    @Benchmark
+    public void mergeDTOs(Blackhole blackhole) {
+        for (int i = 0; i < employees; i++) {
+            blackhole.consume(employeeService.mergeDTOs(originalEmployees.get(i), updatedEmployees.get(i)));
+        }
+    }
+
+    @Benchmark
+    public void getCurrentAge(Blackhole blackhole) {
+        for (EmployeeDTO employee : originalEmployees) {
+            blackhole.consume(employeeService.getCurrentAge(employee));
+        }
+    }
+}
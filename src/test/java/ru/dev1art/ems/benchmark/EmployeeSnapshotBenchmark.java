@@ -0,0 +1,153 @@
+package ru.dev1art.ems.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.services.EmployeeSnapshotService;
+import ru.dev1art.ems.util.snapshot.EmployeeSnapshot;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the analytic filters answered by the database through JPA with the same filters
+ * answered by the columnar {@link EmployeeSnapshot}, including the cost of reloading the snapshot.
+ * Runs against the local employee_db PostgreSQL database, in a separate ems_benchmark schema that is created
+ * and dropped by the benchmark. Any of the properties set in {@link #setUp()} can be overridden with -D,
+ * and JMH options can be passed as program arguments, e.g. {@code -p employees=1000 -wi 1 -i 3}.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeSnapshotBenchmark {
+    @Param({"10000", "100000"})
+    int employees;
+
+    ConfigurableApplicationContext context;
+    EmployeeRepository employeeRepository;
+    EmployeeSnapshotService snapshotService;
+    EmployeeSnapshot snapshot;
+    LocalDate bornOnOrBefore;
+    LocalDate bornAfter;
+    LocalDate hiredOnOrBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        defaultProperty("spring.datasource.url",
+                "jdbc:postgresql://localhost:5432/employee_db?reWriteBatchedInserts=true&currentSchema=ems_benchmark");
+        defaultProperty("spring.jpa.hibernate.ddl-auto", "create-drop");
+        defaultProperty("spring.jpa.show-sql", "false");
+        defaultProperty("spring.jpa.properties.hibernate.default_schema", "ems_benchmark");
+        defaultProperty("spring.jpa.properties.hibernate.hbm2ddl.create_namespaces", "true");
+        defaultProperty("ems.snapshot.enabled", "true");
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        snapshotService = context.getBean(EmployeeSnapshotService.class);
+        context.getBean(EmployeeService.class).saveAll(BenchmarkSupport.randomEmployees(employees, false));
+        snapshot = snapshotService.refresh();
+
+        bornOnOrBefore = BenchmarkSupport.TODAY.minusYears(51);
+        bornAfter = BenchmarkSupport.TODAY.minusYears(30);
+        hiredOnOrBefore = BenchmarkSupport.TODAY.minusYears(10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * System properties take precedence over application.yml, so the benchmark settings are set there
+     * unless given on the command line.
+     */
+    private static void defaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> olderThanJpa() {
+        return employeeRepository.findEmployeesBornOnOrBefore(bornOnOrBefore);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> olderThanSnapshot() {
+        return snapshot.toDtos(snapshot.findBornOnOrBefore(bornOnOrBefore));
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> youngerInDepartmentJpa() {
+        return employeeRepository.findEmployeesInDepartmentBornAfter(3, bornAfter);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> youngerInDepartmentSnapshot() {
+        return snapshot.toDtos(snapshot.findInDepartmentBornAfter(3, bornAfter));
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> longTermJpa() {
+        return employeeRepository.findEmployeesHiredOnOrBefore(hiredOnOrBefore);
+    }
+
+    @Benchmark
+    public List<EmployeeDTO> longTermSnapshot() {
+        return snapshot.toDtos(snapshot.findHiredOnOrBefore(hiredOnOrBefore));
+    }
+
+    @Benchmark
+    public int[] longTermSnapshotRowsOnly() {
+        return snapshot.findHiredOnOrBefore(hiredOnOrBefore);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 10)
+    public EmployeeSnapshot snapshotRefresh() {
+        return snapshotService.refresh();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(EmployeeSnapshotBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    /**
+     * The persistence layer and services only, without the JavaFX controllers.
+     * Deliberately not a @Configuration, so that tests scanning ru.dev1art.ems do not pick it up.
+     */
+    @EnableAutoConfiguration
+    @ComponentScan(basePackages = {
+            "ru.dev1art.ems.services", "ru.dev1art.ems.domain.mapper", "ru.dev1art.ems.util.cache"})
+    @EntityScan(basePackages = "ru.dev1art.ems.domain.model")
+    @EnableJpaRepositories(basePackages = "ru.dev1art.ems.repos")
+    static class BenchmarkApplication {}
+}
@@ -0,0 +1,98 @@
+package ru.dev1art.ems.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.dev1art.ems.util.snapshot.EmployeeSnapshot;
+import ru.dev1art.ems.util.snapshot.ParallelScan;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and parallel scans of an in-memory {@link EmployeeSnapshot} at several sizes,
+ * to find the size from which the parallel scan pays off (ems.snapshot.parallel-threshold).
+ * The speedup is the ratio of the sequential and parallel scores of the same filter and size.
+ * JMH options can be passed as program arguments, e.g. {@code -p employees=1000000 -t 1}.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EmployeeSnapshotScanBenchmark {
+    @Param({"10000", "100000", "1000000", "5000000"})
+    int employees;
+
+    ForkJoinPool pool;
+    EmployeeSnapshot sequential;
+    EmployeeSnapshot parallel;
+    LocalDate bornOnOrBefore;
+    LocalDate bornAfter;
+    LocalDate hiredOnOrBefore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(employees);
+        BenchmarkSupport.randomEmployees(employees, true).forEach(builder::add);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        sequential = builder.build(Instant.now());
+        parallel = sequential.withParallelScan(new ParallelScan(pool, 0));
+
+        bornOnOrBefore = BenchmarkSupport.TODAY.minusYears(51);
+        bornAfter = BenchmarkSupport.TODAY.minusYears(30);
+        hiredOnOrBefore = BenchmarkSupport.TODAY.minusYears(10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Benchmark
+    public int[] olderThanSequential() {
+        return sequential.findBornOnOrBefore(bornOnOrBefore);
+    }
+
+    @Benchmark
+    public int[] olderThanParallel() {
+        return parallel.findBornOnOrBefore(bornOnOrBefore);
+    }
+
+    @Benchmark
+    public int[] youngerInDepartmentSequential() {
+        return sequential.findInDepartmentBornAfter(3, bornAfter);
+    }
+
+    @Benchmark
+    public int[] youngerInDepartmentParallel() {
+        return parallel.findInDepartmentBornAfter(3, bornAfter);
+    }
+
+    @Benchmark
+    public int[] longTermSequential() {
+        return sequential.findHiredOnOrBefore(hiredOnOrBefore);
+    }
+
+    @Benchmark
+    public int[] longTermParallel() {
+        return parallel.findHiredOnOrBefore(hiredOnOrBefore);
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(EmployeeSnapshotScanBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
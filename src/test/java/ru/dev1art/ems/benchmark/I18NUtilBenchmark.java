@@ -0,0 +1,115 @@
+package ru.dev1art.ems.benchmark;
+
+import javafx.beans.binding.StringBinding;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.dev1art.ems.util.lang.I18NUtil;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.ResourceBundle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures localization per operation on the given number of keys: plain lookups, creating or reusing
+ * the bindings a view binds its labels to, and re-evaluating those bindings after a locale switch.
+ * The uncached lookups repeat what I18NUtil.localize does without its cache, as a baseline for the cached ones.
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class I18NUtilBenchmark {
+
+    @Param({"1", "10", "100"})
+    int keys;
+
+    List<String> localizedKeys;
+    List<StringBinding> bindings;
+    Locale english;
+    Locale russian;
+    boolean switched;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.quietLogging();
+        english = I18NUtil.getSupportedLocales().get(0);
+        russian = I18NUtil.getSupportedLocales().get(1);
+        I18NUtil.setLocale(english);
+
+        List<String> bundleKeys = new ArrayList<>(
+                ResourceBundle.getBundle("ru.dev1art.ems.lang.text", english).keySet());
+        Collections.sort(bundleKeys);
+        localizedKeys = new ArrayList<>(keys);
+        for (int i = 0; i < keys; i++) {
+            localizedKeys.add(bundleKeys.get(i % bundleKeys.size()));
+        }
+        bindings = localizedKeys.stream().map(I18NUtil::createStringBinding).toList();
+    }
+
+    @Benchmark
+    public void localize(Blackhole blackhole) {
+        for (String key : localizedKeys) {
+            blackhole.consume(I18NUtil.localize(key));
+        }
+    }
+
+    @Benchmark
+    public void localizeWithArguments(Blackhole blackhole) {
+        for (String key : localizedKeys) {
+            blackhole.consume(I18NUtil.localize(key, 42, "EMS"));
+        }
+    }
+
+    @Benchmark
+    public void localizeUncached(Blackhole blackhole) {
+        Locale locale = I18NUtil.getLocale();
+        for (String key : localizedKeys) {
+            ResourceBundle resourceBundle = ResourceBundle.getBundle("ru.dev1art.ems.lang.text", locale);
+            blackhole.consume(MessageFormat.format(resourceBundle.getString(key), new Object[0]));
+        }
+    }
+
+    @Benchmark
+    public void localizeWithArgumentsUncached(Blackhole blackhole) {
+        Locale locale = I18NUtil.getLocale();
+        for (String key : localizedKeys) {
+            ResourceBundle resourceBundle = ResourceBundle.getBundle("ru.dev1art.ems.lang.text", locale);
+            blackhole.consume(MessageFormat.format(resourceBundle.getString(key), 42, "EMS"));
+        }
+    }
+
+    @Benchmark
+    public void createStringBinding(Blackhole blackhole) {
+        for (String key : localizedKeys) {
+            StringBinding binding = I18NUtil.createStringBinding(key);
+            blackhole.consume(binding.get());
+            binding.dispose();
+        }
+    }
+
+    @Benchmark
+    public void getStringBinding(Blackhole blackhole) {
+        for (String key : localizedKeys) {
+            blackhole.consume(I18NUtil.getStringBinding(key).get());
+        }
+    }
+
+    @Benchmark
+    public void switchLocale(Blackhole blackhole) {
+        switched = !switched;
+        I18NUtil.setLocale(switched ? russian : english);
+        for (StringBinding binding : bindings) {
+            blackhole.consume(binding.get());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package ru.dev1art.ems.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.dev1art.ems.config.EMS;
+import ru.dev1art.ems.config.StartupLog;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the time from launching the EMS process until its first frame and until the first frame
+ * of the main view, in the blocking and background startup modes, with and without the Spring AOT
+ * bean definitions and the CDS archive of the startup profile. Every measurement starts a new JVM
+ * from the application jar and target/lib packaged by the startup profile, which is killed once the frame
+ * has been logged. Needs a display and the database the application is configured for:
+ * mvn -Pstartup,benchmark verify -Djmh.include=StartupBenchmark
+ *
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StartupBenchmark {
+    static final String MILESTONE_LOG = "Startup milestone ";
+    static final Path TARGET = Path.of("target");
+    static final Path CDS_ARCHIVE = TARGET.resolve("startup-benchmark.jsa");
+
+    @Param({"blocking", "background"})
+    String mode;
+
+    @Param({"false", "true"})
+    boolean aotAndCds;
+
+    List<String> command;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        Path applicationJar;
+        try (Stream<Path> jars = Files.list(TARGET)) {
+            applicationJar = jars
+                    .filter(path -> path.getFileName().toString().matches("ems-.*\\.jar"))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Application jar is missing, package it first"));
+        }
+
+        command = new ArrayList<>(List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "--module-path=" + TARGET.resolve("lib").resolve("javafx"),
+                "--add-modules=javafx.controls,javafx.fxml",
+                "-cp", applicationJar + File.pathSeparator + TARGET.resolve("lib").resolve("*"),
+                "-Dems.startup.mode=" + mode,
+                "-Dems.startup.exit-after-main-view=true"));
+        if (aotAndCds) {
+            command.addAll(List.of(
+                    "-Dspring.aot.enabled=true",
+                    "-XX:SharedArchiveFile=" + CDS_ARCHIVE,
+                    "-XX:+AutoCreateSharedArchive"));
+        }
+        command.add(EMS.class.getName());
+
+        if (aotAndCds) {
+            // The archive is dumped when the JVM exits normally, so it is created by a full run up front
+            Files.deleteIfExists(CDS_ARCHIVE);
+            launch(StartupLog.MAIN_VIEW_FRAME).waitFor();
+        }
+    }
+
+    @Benchmark
+    public void firstFrame() throws IOException {
+        launch(StartupLog.FIRST_FRAME, StartupLog.MAIN_VIEW_FRAME).destroyForcibly();
+    }
+
+    @Benchmark
+    public void mainView() throws IOException {
+        launch(StartupLog.MAIN_VIEW_FRAME).destroyForcibly();
+    }
+
+    /**
+     * Starts the application and waits until it logs one of the given milestones.
+     *
+     * @param milestones The startup milestones, any of which ends the wait.
+     * @return The running process.
+     * @throws IOException if the process can not be started or exits before reaching a milestone.
+     */
+    private Process launch(String... milestones) throws IOException {
+        List<String> patterns = Arrays.stream(milestones).map(milestone -> MILESTONE_LOG + milestone + " ").toList();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        BufferedReader output = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+        List<String> lastLines = new ArrayList<>();
+        String line;
+        while ((line = output.readLine()) != null) {
+            String current = line;
+            if (patterns.stream().anyMatch(current::contains)) {
+                // Keep draining in the background, so that a full pipe does not block the application
+                Thread.ofVirtual().start(() -> output.lines().forEach(ignored -> { }));
+                return process;
+            }
+            lastLines.add(line);
+            if (lastLines.size() > 20) {
+                lastLines.remove(0);
+            }
+        }
+        output.close();
+        throw new IOException("EMS exited before reaching " + Arrays.toString(milestones) + ":\n"
+                + String.join("\n", lastLines));
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(StartupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -11,16 +11,23 @@ import lombok.SneakyThrows;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.testfx.framework.junit5.ApplicationTest;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.domain.dto.EmployeeSortField;
 import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.util.async.FxTaskRunner;
+import ru.dev1art.ems.util.table.EmployeeTableModel;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.*;
 
 /**
@@ -47,6 +54,7 @@ public class MainControllerTest extends ApplicationTest {
         loader.load();
         mainController = loader.getController();
         mainController.setEmployeeService(employeeService);
+        mainController.setTaskRunner(new FxTaskRunner(Runnable::run, Runnable::run));
         mainController.initialize(null, null);
         when(employeeTable.getColumns()).thenReturn(FXCollections.observableArrayList(idColumn, lastNameColumn, positionColumn));
     }
@@ -64,12 +72,12 @@ public class MainControllerTest extends ApplicationTest {
                         .salary(new BigDecimal(50000))
                         .build()
         );
-        when(employeeService.getAllEmployees()).thenReturn(mockEmployeeList);
+        when(employeeService.getEmployeesPage(EmployeeQueryDTO.DEFAULT, null, EmployeeTableModel.DEFAULT_PAGE_SIZE)).thenReturn(mockEmployeeList);
 
         mainController.initialize(null, null);
 
-        verify(employeeService, times(1)).getAllEmployees();
-        verify(employeeTable, times(1)).setItems(mockEmployeeList);
+        verify(employeeService, times(2)).getEmployeesPage(EmployeeQueryDTO.DEFAULT, null, EmployeeTableModel.DEFAULT_PAGE_SIZE);
+        assertEquals(mockEmployeeList, mainController.getEmployeeTable().getItems());
     }
 
     @Test
@@ -86,10 +94,49 @@ public class MainControllerTest extends ApplicationTest {
                         .salary(new BigDecimal(60000))
                         .build()
         );
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        when(employeeService.getEmployeesPage(EmployeeQueryDTO.DEFAULT, null, EmployeeTableModel.DEFAULT_PAGE_SIZE)).thenReturn(employees);
         mainController.loadEmployeeData();
-        ArgumentCaptor captor = ArgumentCaptor.forClass(ObservableList.class);
-        verify(employeeTable).setItems((ObservableList<EmployeeDTO>) captor.capture());
+        assertEquals(employees, mainController.getEmployeeTable().getItems());
+        assertSame(mainController.getEmployeeTableModel().getItems(), mainController.getEmployeeTable().getItems());
+    }
+
+    @Test
+    public void testRefreshTable_AppliesChangesInPlace() {
+        Instant loadedAt = Instant.parse("2026-10-18T10:00:00Z");
+        EmployeeDTO kept = EmployeeDTO.builder().id(1).lastName("Smith").build();
+        EmployeeDTO deleted = EmployeeDTO.builder().id(2).lastName("Jones").build();
+        EmployeeDTO added = EmployeeDTO.builder().id(3).lastName("Brown").build();
+        when(employeeService.getDatabaseTime()).thenReturn(loadedAt);
+        when(employeeService.getEmployeesPage(EmployeeQueryDTO.DEFAULT, null, EmployeeTableModel.DEFAULT_PAGE_SIZE)).thenReturn(List.of(kept, deleted));
+        when(employeeService.getEmployeeChanges(loadedAt, Integer.MIN_VALUE, Integer.MAX_VALUE)).thenReturn(
+                EmployeeChangesDTO.builder()
+                        .loadedAt(loadedAt.plusSeconds(1))
+                        .fromId(Integer.MIN_VALUE)
+                        .toId(Integer.MAX_VALUE)
+                        .changedEmployees(List.of(added))
+                        .presentIds(List.of(1, 3))
+                        .build());
+        mainController.loadEmployeeData();
+        ObservableList<EmployeeDTO> items = mainController.getEmployeeTable().getItems();
+
+        mainController.refreshTable();
+
+        assertSame(items, mainController.getEmployeeTable().getItems());
+        assertEquals(List.of(kept, added), items);
+        verify(employeeService, times(1)).getEmployeesPage(EmployeeQueryDTO.DEFAULT, null, EmployeeTableModel.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    public void testApplyQuery_ReloadsSortedFirstPage() {
+        EmployeeQueryDTO query = new EmployeeQueryDTO(EmployeeSortField.SALARY, false, null);
+        List<EmployeeDTO> employees = List.of(EmployeeDTO.builder().id(7).salary(new BigDecimal(90000)).build());
+        when(employeeService.getEmployeesPage(query, null, EmployeeTableModel.DEFAULT_PAGE_SIZE)).thenReturn(employees);
+
+        mainController.applyQuery(query);
+        mainController.applyQuery(query);
+
+        assertEquals(employees, mainController.getEmployeeTable().getItems());
+        verify(employeeService, times(1)).getEmployeesPage(query, null, EmployeeTableModel.DEFAULT_PAGE_SIZE);
     }
 
     @Test
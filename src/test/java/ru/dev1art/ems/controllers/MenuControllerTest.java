@@ -1,5 +1,6 @@
 package ru.dev1art.ems.controllers;
 
+import jakarta.persistence.EntityNotFoundException;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
@@ -15,10 +16,15 @@ import org.mockito.MockitoAnnotations;
 import org.testfx.framework.junit5.ApplicationTest;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
 import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.util.async.FxTaskRunner;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -52,6 +58,7 @@ public class MenuControllerTest extends ApplicationTest {
         menuController.setShortcutsComboBox(shortcutsComboBox);
         menuController.setValueField(valueField);
         menuController.setFindButton(findButton);
+        menuController.setTaskRunner(new FxTaskRunner(Runnable::run, Runnable::run));
         menuController.initialize(null, null);
     }
 
@@ -129,6 +136,26 @@ public class MenuControllerTest extends ApplicationTest {
         assertEquals("Current age of employee: 30", valueField.getText());
     }
 
+    @Test
+    public void testGetAgeOfEmployee_NotFound() {
+        valueField.setText("1");
+        when(employeeService.findById(1)).thenThrow(new EntityNotFoundException("Employee with ID 1 not found."));
+
+        menuController.getAgeOfEmployee();
+
+        assertEquals("Employee not found", valueField.getText());
+    }
+
+    @Test
+    public void testGetAgeOfEmployee_OtherFailureIsNotReportedAsNotFound() {
+        valueField.setText("1");
+        when(employeeService.findById(1)).thenThrow(new IllegalStateException("Connection lost"));
+
+        menuController.getAgeOfEmployee();
+
+        assertNotEquals("Employee not found", valueField.getText());
+    }
+
     @Test
     public void testGetAgeOfEmployeeWhenHired() {
         // Setup
@@ -156,4 +183,15 @@ public class MenuControllerTest extends ApplicationTest {
 
         verify(employeeService).increaseSalaryForLongTermEmployees(new BigDecimal("5"), 2);
     }
+
+    @Test
+    public void testIncreaseSalaryForLongTermEmployees_IsNotCancelledByOtherShortcut() {
+        FxTaskRunner taskRunner = spy(new FxTaskRunner(Runnable::run, Runnable::run));
+        menuController.setTaskRunner(taskRunner);
+        valueField.setText("5:2");
+
+        menuController.increaseSalaryForLongTermEmployees();
+
+        verify(taskRunner).submit(isNull(), any(), any(), any());
+    }
 }
@@ -21,8 +21,10 @@ import java.sql.Date;
 import java.util.Locale;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -91,8 +93,21 @@ public class PopUpControllerTest extends ApplicationTest {
 
         popUpController.addEmployee();
 
-        verify(employeeService).saveEmployee(mockEmployee);
-        verify(popUpController.getMainController()).refreshTable();
+        verify(popUpController.getMainController()).submitEmployee(mockEmployee);
+        verify(employeeService, never()).saveEmployee(any());
+    }
+
+    @Test
+    public void testResetForm() {
+        lastNameField.setText("Doe");
+        salaryField.setText("50000");
+        popUpController.setEmployeeToUpdate(EmployeeDTO.builder().lastName("Doe").build());
+
+        popUpController.resetForm();
+
+        assertEquals("", lastNameField.getText());
+        assertEquals("", salaryField.getText());
+        assertNull(popUpController.getEmployeeToUpdate());
     }
 
     @Test
@@ -117,8 +132,8 @@ public class PopUpControllerTest extends ApplicationTest {
 
         popUpController.updateEmployee();
 
-        verify(employeeService).saveEmployee(existingEmployee);
-        verify(popUpController.getMainController()).refreshTable();
+        verify(popUpController.getMainController()).submitEmployee(existingEmployee);
+        verify(employeeService, never()).saveEmployee(any());
     }
 
     @Test
@@ -0,0 +1,71 @@
+package ru.dev1art.ems.integration;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ContextConfiguration;
+import ru.dev1art.ems.config.EMS;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.services.EmployeeImportService;
+import ru.dev1art.ems.services.EmployeeService;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@SpringBootTest
+@ContextConfiguration(classes = EMS.class)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeImportIntegrationTest {
+    @Autowired EmployeeService employeeService;
+    @Autowired EmployeeImportService employeeImportService;
+    @TempDir Path tempDir;
+    Integer employeeId;
+
+    @AfterEach
+    public void tearDown() {
+        if (employeeId != null) {
+            employeeService.deleteEmployee(employeeId);
+        }
+    }
+
+    @Test
+    public void testImportCsv_OverwriteMakesStaleSaveConflict() throws Exception {
+        EmployeeDTO readBeforeImport = employeeService.saveEmployees(List.of(EmployeeDTO.builder()
+                .lastName("Doe")
+                .position("Developer")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .departmentNumber(1)
+                .salary(new BigDecimal("50000.00"))
+                .build())).getFirst();
+        employeeId = readBeforeImport.id();
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), String.join("\n",
+                "id,lastName,position,birthDate,hireDate,departmentNumber,salary",
+                employeeId + ",Doe,Lead,1990-01-01,2020-01-01,1,60000.00"));
+
+        employeeImportService.importCsv(csvFile);
+
+        assertEquals(readBeforeImport.version() + 1, employeeService.findById(employeeId).version());
+        EmployeeDTO staleEdit = employeeService.mergeDTOs(readBeforeImport,
+                employeeService.fromTextToDTO("Doe", "Developer", "1990-01-01", "2020-01-01", "1", "55000.00"));
+        ObjectOptimisticLockingFailureException conflict = assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> employeeService.saveEmployees(List.of(staleEdit)));
+        assertEquals(employeeId, conflict.getIdentifier());
+        assertEquals(new BigDecimal("60000.00"), employeeService.findById(employeeId).salary());
+    }
+}
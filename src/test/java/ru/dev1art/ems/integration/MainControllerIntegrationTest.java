@@ -18,7 +18,10 @@ import org.testfx.framework.junit5.ApplicationExtension;
 import ru.dev1art.ems.config.EMS;
 import ru.dev1art.ems.controllers.MainController;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
 import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.util.async.FxTaskRunner;
+import ru.dev1art.ems.util.table.EmployeeTableModel;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -48,16 +51,17 @@ public class MainControllerIntegrationTest {
         MockitoAnnotations.openMocks(this);
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/ru/dev1art/ems/MainController.fxml"));
         Parent root = loader.load();
+        mainController.setTaskRunner(new FxTaskRunner(Runnable::run, Runnable::run));
         mainController.initialize(null, null);
     }
 
     @Test
     public void testLoadEmployeeData() {
-        EmployeeDTO employee1 = new EmployeeDTO(1, "Doe", "Dev", LocalDate.now(), LocalDate.now(), 1, BigDecimal.valueOf(50000));
-        EmployeeDTO employee2 = new EmployeeDTO(2, "Doe", "Manager", LocalDate.now(), LocalDate.now(), 2, BigDecimal.valueOf(60000));
+        EmployeeDTO employee1 = new EmployeeDTO(1, "Doe", "Dev", LocalDate.now(), LocalDate.now(), 1, BigDecimal.valueOf(50000), null);
+        EmployeeDTO employee2 = new EmployeeDTO(2, "Doe", "Manager", LocalDate.now(), LocalDate.now(), 2, BigDecimal.valueOf(60000), null);
         List<EmployeeDTO> employees = Arrays.asList(employee1, employee2);
 
-        when(employeeService.getAllEmployees()).thenReturn(employees);
+        when(employeeService.getEmployeesPage(EmployeeQueryDTO.DEFAULT, null, EmployeeTableModel.DEFAULT_PAGE_SIZE)).thenReturn(employees);
 
         mainController.loadEmployeeData();
 
@@ -67,7 +71,7 @@ public class MainControllerIntegrationTest {
 
     @Test
     public void testAddEmployee() {
-        EmployeeDTO newEmployee = new EmployeeDTO(null, "Alice", "Designer", LocalDate.now(), LocalDate.now(), 3, BigDecimal.valueOf(70000));
+        EmployeeDTO newEmployee = new EmployeeDTO(null, "Alice", "Designer", LocalDate.now(), LocalDate.now(), 3, BigDecimal.valueOf(70000), null);
         when(employeeService.fromTextToDTO(anyString(), anyString(), anyString(), anyString(), anyString(), anyString())).thenReturn(newEmployee);
 
         mainController.getAddEmployeeButton().fire();
@@ -77,7 +81,7 @@ public class MainControllerIntegrationTest {
 
     @Test
     public void testDeleteEmployee() {
-        EmployeeDTO employee = new EmployeeDTO(1, "John Doe", "Developer", LocalDate.now(), LocalDate.now(), 1, BigDecimal.valueOf(50000));
+        EmployeeDTO employee = new EmployeeDTO(1, "John Doe", "Developer", LocalDate.now(), LocalDate.now(), 1, BigDecimal.valueOf(50000), null);
         mainController.getEmployeeTable().getItems().add(employee);
 
         mainController.getDeleteEmployeeButton().fire();
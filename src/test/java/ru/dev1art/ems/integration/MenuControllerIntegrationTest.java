@@ -19,6 +19,7 @@ import ru.dev1art.ems.config.EMS;
 import ru.dev1art.ems.controllers.MenuController;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
 import ru.dev1art.ems.services.EmployeeService;
+import ru.dev1art.ems.util.async.FxTaskRunner;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -46,6 +47,7 @@ public class MenuControllerIntegrationTest {
         MockitoAnnotations.openMocks(this);
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/ru/dev1art/ems/MenuController.fxml"));
         Parent root = loader.load();
+        menuController.setTaskRunner(new FxTaskRunner(Runnable::run, Runnable::run));
         menuController.initialize(null, null);
     }
 
@@ -54,10 +56,10 @@ public class MenuControllerIntegrationTest {
         // Given
         EmployeeDTO employee1 = new EmployeeDTO(1, "John Doe",
                 "Developer", LocalDate.now().minusYears(20),
-                LocalDate.now(), 1, BigDecimal.valueOf(50000));
+                LocalDate.now(), 1, BigDecimal.valueOf(50000), null);
         EmployeeDTO employee2 = new EmployeeDTO(2, "Jane Doe",
                 "Manager", LocalDate.now().minusYears(30),
-                LocalDate.now(), 2, BigDecimal.valueOf(60000));
+                LocalDate.now(), 2, BigDecimal.valueOf(60000), null);
         when(employeeService.getEmployeesInDepartmentYoungerThan(1, 25)).thenReturn(List.of(employee1));
 
         menuController.getValueField().setText("1:25");
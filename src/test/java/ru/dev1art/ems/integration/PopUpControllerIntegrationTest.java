@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,6 +17,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.context.ContextConfiguration;
 import org.testfx.framework.junit5.ApplicationExtension;
 import ru.dev1art.ems.config.EMS;
+import ru.dev1art.ems.controllers.MainController;
 import ru.dev1art.ems.controllers.PopUpController;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
 import ru.dev1art.ems.services.EmployeeService;
@@ -37,6 +39,7 @@ import static org.mockito.Mockito.when;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class PopUpControllerIntegrationTest {
     @MockBean EmployeeService employeeService;
+    @Mock MainController mainController;
     @InjectMocks @Autowired PopUpController popUpController;
 
     @SneakyThrows
@@ -45,13 +48,14 @@ public class PopUpControllerIntegrationTest {
         MockitoAnnotations.openMocks(this);
         FXMLLoader loader = new FXMLLoader(getClass().getResource("/ru/dev1art/ems/PopUpController.fxml"));
         Parent root = loader.load();
+        popUpController.setMainController(mainController);
         popUpController.initialize(null, null);
     }
 
     @Test
     public void testAddEmployee() {
         EmployeeDTO newEmployee = new EmployeeDTO(null, "Alice", "Designer", LocalDate.now(),
-                LocalDate.now(), 3, BigDecimal.valueOf(70000));
+                LocalDate.now(), 3, BigDecimal.valueOf(70000), null);
         when(employeeService.fromTextToDTO(anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(newEmployee);
 
@@ -63,13 +67,13 @@ public class PopUpControllerIntegrationTest {
         popUpController.getSalaryField().setText("70000");
         popUpController.getSubmitButton().fire();
 
-        verify(employeeService).saveEmployee(newEmployee);
+        verify(mainController).submitEmployee(newEmployee);
     }
 
     @Test
     public void testUpdateEmployee() {
         EmployeeDTO existingEmployee = new EmployeeDTO(1, "John Doe",
-                "Developer", LocalDate.now(), LocalDate.now(), 1, BigDecimal.valueOf(50000));
+                "Developer", LocalDate.now(), LocalDate.now(), 1, BigDecimal.valueOf(50000), null);
         when(employeeService.fromTextToDTO(anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
                 .thenReturn(existingEmployee);
         popUpController.setEmployeeToUpdate(existingEmployee);
@@ -78,6 +82,6 @@ public class PopUpControllerIntegrationTest {
         popUpController.getPositionField().setText("Senior Developer");
         popUpController.getSubmitButton().fire();
 
-        verify(employeeService).saveEmployee(existingEmployee);
+        verify(mainController).submitEmployee(existingEmployee);
     }
 }
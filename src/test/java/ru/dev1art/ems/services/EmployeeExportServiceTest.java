@@ -0,0 +1,113 @@
+package ru.dev1art.ems.services;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeExportServiceTest {
+    static final String HEADER = "id,lastName,position,birthDate,hireDate,departmentNumber,salary";
+    @InjectMocks EmployeeExportService exportService;
+    @Mock EmployeeRepository employeeRepository;
+    @TempDir Path tempDir;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private static EmployeeDTO employee(int id, String lastName) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .lastName(lastName)
+                .position("Developer")
+                .birthDate(LocalDate.of(1990, 1, 1))
+                .hireDate(LocalDate.of(2020, 1, 1))
+                .departmentNumber(1)
+                .salary(new BigDecimal("50000.00"))
+                .build();
+    }
+
+    @Test
+    public void testExportCsv_StreamsQueryResultAndClosesStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        EmployeeQueryDTO query = EmployeeQueryDTO.DEFAULT.toBuilder().filterText("Doe").build();
+        when(employeeRepository.streamAll(query))
+                .thenReturn(Stream.of(employee(1, "Doe"), employee(2, "Doe, Jr.")).onClose(() -> closed.set(true)));
+        Path csvFile = tempDir.resolve("employees.csv");
+
+        assertEquals(2, exportService.exportCsv(query, csvFile));
+
+        assertEquals(List.of(HEADER,
+                "1,Doe,Developer,1990-01-01,2020-01-01,1,50000.00",
+                "2,\"Doe, Jr.\",Developer,1990-01-01,2020-01-01,1,50000.00"), Files.readAllLines(csvFile));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testExportCsv_OverwritesExistingFile() throws Exception {
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), "x".repeat(10_000));
+
+        assertEquals(1, exportService.exportCsv(List.of(employee(1, "Doe")), csvFile));
+
+        assertEquals(List.of(HEADER, "1,Doe,Developer,1990-01-01,2020-01-01,1,50000.00"), Files.readAllLines(csvFile));
+        verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    public void testExportCsv_WritesLargeResultsInChunks() throws Exception {
+        int rows = 10_000;
+        when(employeeRepository.streamAll(EmployeeQueryDTO.DEFAULT))
+                .thenReturn(IntStream.rangeClosed(1, rows).mapToObj(id -> employee(id, "Doe")));
+        Path csvFile = tempDir.resolve("employees.csv");
+
+        assertEquals(rows, exportService.exportCsv(EmployeeQueryDTO.DEFAULT, csvFile));
+
+        List<String> lines = Files.readAllLines(csvFile);
+        assertEquals(rows + 1, lines.size());
+        assertTrue(lines.get(rows).startsWith(rows + ",Doe,"));
+    }
+
+    @Test
+    public void testExportCsv_FailedExportKeepsExistingFileAndLeavesNoPartialFile() throws Exception {
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), "previous export");
+        when(employeeRepository.streamAll(EmployeeQueryDTO.DEFAULT))
+                .thenReturn(IntStream.rangeClosed(1, 10_000).mapToObj(id -> {
+                    if (id == 5_000) {
+                        throw new IllegalStateException("Interrupted");
+                    }
+                    return employee(id, "Doe");
+                }));
+
+        assertThrows(IllegalStateException.class, () -> exportService.exportCsv(EmployeeQueryDTO.DEFAULT, csvFile));
+
+        assertEquals("previous export", Files.readString(csvFile));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(List.of(csvFile), files.toList());
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ru.dev1art.ems.services;
+
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import ru.dev1art.ems.domain.dto.EmployeeImportResultDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.cache.EmployeeCache;
+import ru.dev1art.ems.util.cache.SalaryRankingIndex;
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeImportServiceTest {
+    static final String HEADER = "id,lastName,position,birthDate,hireDate,departmentNumber,salary";
+    @Mock DataSource dataSource;
+    @Mock Connection connection;
+    @Mock Statement statement;
+    @Mock PGConnection pgConnection;
+    @Mock CopyManager copyManager;
+    @Mock CopyIn copyIn;
+    @Mock EmployeeRepository employeeRepository;
+    @Mock EmployeeCache employeeCache;
+    @Mock SalaryRankingIndex salaryRankingIndex;
+    @Mock EmployeeSnapshotService employeeSnapshotService;
+    @TempDir Path tempDir;
+    ValidatorFactory validatorFactory;
+    EmployeeImportService importService;
+    ByteArrayOutputStream copied;
+    AutoCloseable mocks;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        mocks = MockitoAnnotations.openMocks(this);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        importService = new EmployeeImportService(dataSource, validatorFactory.getValidator(),
+                employeeRepository, employeeCache, salaryRankingIndex, employeeSnapshotService);
+        copied = new ByteArrayOutputStream();
+
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(EmployeeImportService.COPY_INTO_STAGING_TABLE)).thenReturn(copyIn);
+        doAnswer(invocation -> {
+            copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        validatorFactory.close();
+        mocks.close();
+    }
+
+    @Test
+    public void testImportCsv_CopiesValidRecordsAndMerges() throws Exception {
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), String.join("\n",
+                "salary,id,lastName,position,birthDate,hireDate,departmentNumber",
+                "50000.00,1,\"Doe, John\",Developer,1990-01-01,2020-01-01,1",
+                "",
+                "42000,2,Smith,Tester,1985-05-05,2019-03-01,2"));
+        when(statement.executeUpdate(EmployeeImportService.MERGE_STAGING_TABLE)).thenReturn(2);
+
+        EmployeeImportResultDTO result = importService.importCsv(csvFile);
+
+        assertEquals(2, result.importedRows());
+        assertEquals(0, result.rejectedRows());
+        assertNull(result.rejectFile());
+        assertEquals("2,1,\"Doe, John\",Developer,1990-01-01,2020-01-01,1,50000.00\n" +
+                "4,2,Smith,Tester,1985-05-05,2019-03-01,2,42000\n", copied.toString(StandardCharsets.UTF_8));
+        verify(statement).execute(EmployeeImportService.CREATE_STAGING_TABLE);
+        verify(copyIn).endCopy();
+        verify(employeeRepository).alignIdSequence();
+        verify(employeeCache, times(2)).invalidateAll();
+        verify(salaryRankingIndex).invalidateAll();
+        verify(employeeSnapshotService).markStale();
+        assertFalse(Files.exists(tempDir.resolve("employees.csv.rejects.csv")));
+    }
+
+    @Test
+    public void testImportCsv_WritesInvalidRecordsToRejectFile() throws Exception {
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), String.join("\n",
+                HEADER,
+                "1,Doe,Developer,1990-01-01,2020-01-01,1,50000",
+                ",NoId,Developer,1990-01-01,2020-01-01,1,50000",
+                "3,BadDate,Developer,01.01.1990,2020-01-01,1,50000",
+                "4,\"Unterminated,Developer"));
+        when(statement.executeUpdate(EmployeeImportService.MERGE_STAGING_TABLE)).thenReturn(1);
+
+        EmployeeImportResultDTO result = importService.importCsv(csvFile);
+
+        assertEquals(1, result.importedRows());
+        assertEquals(3, result.rejectedRows());
+        assertEquals(tempDir.resolve("employees.csv.rejects.csv"), result.rejectFile());
+        List<String> rejects = Files.readAllLines(result.rejectFile());
+        assertEquals(4, rejects.size());
+        assertTrue(rejects.get(1).startsWith("3,ID is mandatory!,"));
+        assertTrue(rejects.get(2).startsWith("4,"));
+        assertTrue(rejects.get(3).startsWith("5,Unterminated quoted field,"));
+        assertEquals("2,1,Doe,Developer,1990-01-01,2020-01-01,1,50000\n", copied.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testImportCsv_MissingColumn() throws Exception {
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), "id,lastName\n1,Doe");
+        when(copyIn.isActive()).thenReturn(true);
+
+        assertThrows(IllegalArgumentException.class, () -> importService.importCsv(csvFile));
+        verify(copyIn).cancelCopy();
+        verify(statement, never()).executeUpdate(anyString());
+        verifyNoInteractions(employeeCache);
+    }
+
+    @Test
+    public void testImportCsv_FlushesLargeFilesInChunks() throws Exception {
+        StringBuilder content = new StringBuilder(HEADER);
+        int rows = 5_000;
+        for (int id = 1; id <= rows; id++) {
+            content.append("\n").append(id).append(",Doe,Developer,1990-01-01,2020-01-01,1,50000");
+        }
+        Path csvFile = Files.writeString(tempDir.resolve("employees.csv"), content);
+        when(statement.executeUpdate(EmployeeImportService.MERGE_STAGING_TABLE)).thenReturn(rows);
+
+        importService.importCsv(csvFile);
+
+        ArgumentCaptor<Integer> lengths = ArgumentCaptor.forClass(Integer.class);
+        verify(copyIn, atLeast(3)).writeToCopy(any(byte[].class), eq(0), lengths.capture());
+        assertTrue(lengths.getAllValues().stream().allMatch(length -> length < EmployeeImportService.COPY_BUFFER_SIZE + 1024));
+        assertEquals(rows, copied.toString(StandardCharsets.UTF_8).lines().count());
+    }
+}
@@ -8,11 +8,27 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.dev1art.ems.domain.dto.DepartmentStatisticsDTO;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
 import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeImportResultDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.domain.dto.EmployeeSortField;
 import ru.dev1art.ems.domain.mapper.EmployeeMapper;
 import ru.dev1art.ems.domain.model.Employee;
 import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.cache.EmployeeCache;
+import ru.dev1art.ems.util.cache.SalaryRankingIndex;
+import ru.dev1art.ems.util.snapshot.EmployeeSnapshot;
 import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -30,6 +46,9 @@ public class EmployeeServiceTest {
     @InjectMocks EmployeeService employeeService;
     @Mock EmployeeRepository employeeRepository;
     @Mock EmployeeMapper employeeMapper;
+    @Spy EmployeeCache employeeCache = new EmployeeCache(16, Duration.ofMinutes(5), Clock.systemUTC());
+    @Spy SalaryRankingIndex salaryRankingIndex = new SalaryRankingIndex(2, 10);
+    @Mock EmployeeSnapshotService employeeSnapshotService;
     EmployeeDTO employeeDTO;
     Employee employee;
 
@@ -60,33 +79,145 @@ public class EmployeeServiceTest {
     @Test
     public void testSaveEmployee() {
         when(employeeMapper.toEntity(employeeDTO)).thenReturn(employee);
+        EmployeeDTO savedDTO = EmployeeDTO.builder().id(1).lastName("Doe").version(1L).build();
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+        when(employeeMapper.toDto(employee)).thenReturn(savedDTO);
 
         employeeService.saveEmployee(employeeDTO);
 
-        verify(employeeRepository).save(employee);
+        verify(employeeRepository).saveAndFlush(employee);
+        verify(employeeRepository, never()).save(any());
+        verify(salaryRankingIndex).update(savedDTO);
+        verify(employeeSnapshotService).markStale();
     }
 
     @Test
-    public void testFindById_Success() {
-        when(employeeRepository.findById(1)).thenReturn(Optional.of(employee));
+    public void testSaveEmployees() {
+        EmployeeDTO newDTO = EmployeeDTO.builder().lastName("Roe").build();
+        Employee newEmployee = new Employee();
+        EmployeeDTO savedNewDTO = EmployeeDTO.builder().id(2).lastName("Roe").build();
+        when(employeeMapper.toEntity(employeeDTO)).thenReturn(employee);
+        when(employeeMapper.toEntity(newDTO)).thenReturn(newEmployee);
+        when(employeeRepository.findAllById(List.of(1))).thenReturn(List.of(employee));
+        when(employeeRepository.saveAllAndFlush(List.of(employee, newEmployee))).thenReturn(List.of(employee, newEmployee));
         when(employeeMapper.toDto(employee)).thenReturn(employeeDTO);
+        when(employeeMapper.toDto(newEmployee)).thenReturn(savedNewDTO);
+
+        List<EmployeeDTO> saved = employeeService.saveEmployees(List.of(employeeDTO, newDTO));
+
+        assertEquals(List.of(employeeDTO, savedNewDTO), saved);
+        verify(salaryRankingIndex).update(employeeDTO);
+        verify(salaryRankingIndex).update(savedNewDTO);
+        verify(employeeSnapshotService).markStale();
+    }
+
+    @Test
+    public void testSaveEmployees_DeletedEmployeeIsConflict() {
+        when(employeeRepository.findAllById(List.of(1))).thenReturn(List.of());
+
+        ObjectOptimisticLockingFailureException exception = assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> employeeService.saveEmployees(List.of(employeeDTO)));
+
+        assertEquals(1, exception.getIdentifier());
+        verify(employeeRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    public void testMergeDTOs_KeepsIdAndVersionOfOriginal() {
+        EmployeeDTO original = EmployeeDTO.builder().id(1).lastName("Doe").version(3L).build();
+        EmployeeDTO entered = EmployeeDTO.builder().lastName("Roe").position("Developer").build();
+
+        EmployeeDTO merged = employeeService.mergeDTOs(original, entered);
+
+        assertEquals(1, merged.id());
+        assertEquals(3L, merged.version());
+        assertEquals("Roe", merged.lastName());
+        assertEquals("Developer", merged.position());
+    }
+
+    @Test
+    public void testSaveAll() {
+        when(employeeMapper.toEntity(employeeDTO)).thenReturn(employee);
+
+        EmployeeImportResultDTO result = employeeService.saveAll(List.of(employeeDTO));
+
+        assertEquals(1, result.importedRows());
+        assertTrue(result.rowsPerSecond() > 0);
+        assertNull(employee.getId());
+        verify(employeeRepository).persistInBatches(List.of(employee));
+    }
+
+    @Test
+    public void testFindById_Success() {
+        when(employeeRepository.findDtoById(1)).thenReturn(Optional.of(employeeDTO));
+
+        EmployeeDTO foundEmployee = employeeService.findById(1);
+
+        assertEquals(employeeDTO, foundEmployee);
+        verify(employeeRepository).findDtoById(1);
+    }
+
+    @Test
+    public void testFindById_ServedFromCache() {
+        when(employeeRepository.findDtoById(1)).thenReturn(Optional.of(employeeDTO));
 
+        employeeService.findById(1);
         EmployeeDTO foundEmployee = employeeService.findById(1);
 
         assertEquals(employeeDTO, foundEmployee);
-        verify(employeeRepository).findById(1);
+        verify(employeeRepository, times(1)).findDtoById(1);
+        assertEquals(1, employeeCache.getHitCount());
+        assertEquals(1, employeeCache.getMissCount());
+    }
+
+    @Test
+    public void testFindById_ReloadsAfterWrite() {
+        when(employeeRepository.findDtoById(1)).thenReturn(Optional.of(employeeDTO));
+        when(employeeMapper.toEntity(employeeDTO)).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+        when(employeeMapper.toDto(employee)).thenReturn(employeeDTO);
+
+        employeeService.findById(1);
+        employeeService.saveEmployee(employeeDTO);
+        employeeService.findById(1);
+        employeeService.deleteEmployee(1);
+        employeeService.findById(1);
+
+        verify(employeeRepository, times(3)).findDtoById(1);
+    }
+
+    @Test
+    public void testFindById_ReloadsReadCachedDuringWriteTransaction() {
+        EmployeeDTO editedDTO = EmployeeDTO.builder().id(1).lastName("Roe").version(1L).build();
+        when(employeeMapper.toEntity(editedDTO)).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+        when(employeeMapper.toDto(employee)).thenReturn(editedDTO);
+        when(employeeRepository.findDtoById(1)).thenReturn(Optional.of(employeeDTO));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            employeeService.saveEmployee(editedDTO);
+            assertEquals(employeeDTO, employeeService.findById(1));
+            when(employeeRepository.findDtoById(1)).thenReturn(Optional.of(editedDTO));
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(editedDTO, employeeService.findById(1));
+        verify(employeeRepository, times(2)).findDtoById(1);
     }
 
     @Test
     public void testFindById_NotFound() {
-        when(employeeRepository.findById(1)).thenReturn(Optional.empty());
+        when(employeeRepository.findDtoById(1)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(EntityNotFoundException.class, () -> {
             employeeService.findById(1);
         });
 
         assertEquals("Employee with ID 1 not found.", exception.getMessage());
-        verify(employeeRepository).findById(1);
+        verify(employeeRepository).findDtoById(1);
     }
 
     @Test
@@ -96,18 +227,128 @@ public class EmployeeServiceTest {
         employeeService.deleteEmployee(1);
 
         verify(employeeRepository).deleteById(1);
+        verify(salaryRankingIndex).remove(1);
+    }
+
+    @Test
+    public void testGetEmployeesWithMaxSalary_ServedFromRankingIndex() {
+        EmployeeDTO secondDTO = EmployeeDTO.builder().id(2).salary(new BigDecimal("40000")).build();
+        when(employeeRepository.findHighestSalaries(Limit.of(10))).thenReturn(List.of(employeeDTO, secondDTO));
+
+        assertEquals(List.of(employeeDTO, secondDTO), employeeService.getEmployeesWithMaxSalary());
+        assertEquals(List.of(employeeDTO), employeeService.getEmployeesWithMaxSalary(1));
+
+        verify(employeeRepository, times(1)).findHighestSalaries(any());
+    }
+
+    @Test
+    public void testGetEmployeesWithMinSalary_ReflectsSavedEmployee() {
+        EmployeeDTO secondDTO = EmployeeDTO.builder().id(2).salary(new BigDecimal("40000")).build();
+        EmployeeDTO raisedDTO = EmployeeDTO.builder().id(2).salary(new BigDecimal("60000")).build();
+        when(employeeRepository.findLowestSalaries(Limit.of(10))).thenReturn(List.of(secondDTO, employeeDTO));
+        when(employeeMapper.toEntity(raisedDTO)).thenReturn(employee);
+        when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+        when(employeeMapper.toDto(employee)).thenReturn(raisedDTO);
+
+        assertEquals(List.of(secondDTO, employeeDTO), employeeService.getEmployeesWithMinSalary());
+        employeeService.saveEmployee(raisedDTO);
+
+        assertEquals(List.of(employeeDTO, raisedDTO), employeeService.getEmployeesWithMinSalary());
+        verify(employeeRepository, times(1)).findLowestSalaries(any());
     }
 
     @Test
     public void testGetAllEmployees() {
-        when(employeeRepository.findAll()).thenReturn(List.of(employee));
-        when(employeeMapper.toDto(employee)).thenReturn(employeeDTO);
+        when(employeeRepository.findAllDtos()).thenReturn(List.of(employeeDTO));
 
         List<EmployeeDTO> employees = employeeService.getAllEmployees();
 
         assertEquals(1, employees.size());
         assertEquals(employeeDTO, employees.get(0));
-        verify(employeeRepository).findAll();
+        verify(employeeRepository).findAllDtos();
+    }
+
+    @Test
+    public void testGetDepartmentStatistics() {
+        DepartmentStatisticsDTO department = new DepartmentStatisticsDTO(1, false, 2, new BigDecimal("100000.00"),
+                new BigDecimal("50000.00"), new BigDecimal("50000.00"), new BigDecimal("50000.00"), 730.5);
+        DepartmentStatisticsDTO total = new DepartmentStatisticsDTO(null, true, 2, new BigDecimal("100000.00"),
+                new BigDecimal("50000.00"), new BigDecimal("50000.00"), new BigDecimal("50000.00"), 730.5);
+        when(employeeRepository.findDepartmentStatistics()).thenReturn(List.of(department, total));
+
+        List<DepartmentStatisticsDTO> statistics = employeeService.getDepartmentStatistics();
+
+        assertEquals(List.of(department, total), statistics);
+        assertEquals(2.0, statistics.get(0).averageTenureYears(), 0.01);
+        verify(employeeRepository, never()).findAllDtos();
+    }
+
+    @Test
+    public void testGetEmployeesPage() {
+        when(employeeRepository.findPageAfter(0, Limit.of(100))).thenReturn(List.of(employeeDTO));
+
+        List<EmployeeDTO> employees = employeeService.getEmployeesPage(null, 100);
+
+        assertEquals(List.of(employeeDTO), employees);
+        verify(employeeRepository).findPageAfter(0, Limit.of(100));
+    }
+
+    @Test
+    public void testGetEmployeesPageBefore() {
+        EmployeeDTO previousDTO = EmployeeDTO.builder().id(0).build();
+        when(employeeRepository.findPageBefore(2, Limit.of(2))).thenReturn(List.of(employeeDTO, previousDTO));
+
+        List<EmployeeDTO> employees = employeeService.getEmployeesPageBefore(2, 2);
+
+        assertEquals(List.of(previousDTO, employeeDTO), employees);
+    }
+
+    @Test
+    public void testGetEmployeesPage_DefaultQueryUsesIdPages() {
+        when(employeeRepository.findPageAfter(1, Limit.of(100))).thenReturn(List.of(employeeDTO));
+
+        List<EmployeeDTO> employees = employeeService.getEmployeesPage(EmployeeQueryDTO.DEFAULT, employeeDTO, 100);
+
+        assertEquals(List.of(employeeDTO), employees);
+        verify(employeeRepository, never()).findPage(any(), any(), anyBoolean(), anyInt());
+    }
+
+    @Test
+    public void testGetEmployeesPage_SortedQuery() {
+        EmployeeQueryDTO query = new EmployeeQueryDTO(EmployeeSortField.SALARY, false, "doe");
+        when(employeeRepository.findPage(query, employeeDTO, true, 100)).thenReturn(List.of(employeeDTO));
+
+        List<EmployeeDTO> employees = employeeService.getEmployeesPage(query, employeeDTO, 100);
+
+        assertEquals(List.of(employeeDTO), employees);
+    }
+
+    @Test
+    public void testGetEmployeesPageBefore_SortedQuery() {
+        EmployeeQueryDTO query = new EmployeeQueryDTO(EmployeeSortField.LAST_NAME, true, null);
+        EmployeeDTO previousDTO = EmployeeDTO.builder().id(0).build();
+        when(employeeRepository.findPage(query, employeeDTO, false, 2)).thenReturn(List.of(previousDTO, employeeDTO));
+
+        List<EmployeeDTO> employees = employeeService.getEmployeesPageBefore(query, employeeDTO, 2);
+
+        assertEquals(List.of(employeeDTO, previousDTO), employees);
+    }
+
+    @Test
+    public void testGetEmployeeChanges() {
+        Instant since = Instant.parse("2026-10-18T10:00:00Z");
+        Instant now = since.plusSeconds(30);
+        when(employeeRepository.currentTimestamp()).thenReturn(now);
+        when(employeeRepository.findChangedSince(since, 1, 10)).thenReturn(List.of(employeeDTO));
+        when(employeeRepository.findIdsBetween(1, 10)).thenReturn(List.of(1, 2));
+
+        EmployeeChangesDTO changes = employeeService.getEmployeeChanges(since, 1, 10);
+
+        assertEquals(now, changes.loadedAt());
+        assertEquals(List.of(employeeDTO), changes.changedEmployees());
+        assertEquals(List.of(1, 2), changes.presentIds());
+        assertEquals(1, changes.fromId());
+        assertEquals(10, changes.toId());
     }
 
     @Test
@@ -124,26 +365,92 @@ public class EmployeeServiceTest {
 
     @Test
     public void testGetEmployeesInDepartmentYoungerThan() {
-        when(employeeRepository.findEmployeesInDepartmentYoungerThan(1, 30)).thenReturn(List.of(employee));
-        when(employeeMapper.toDto(employee)).thenReturn(employeeDTO);
+        LocalDate bornAfter = LocalDate.now().minusYears(30);
+        when(employeeRepository.findEmployeesInDepartmentBornAfter(1, bornAfter)).thenReturn(List.of(employeeDTO));
 
         List<EmployeeDTO> employees = employeeService.getEmployeesInDepartmentYoungerThan(1, 30);
 
         assertEquals(1, employees.size());
         assertEquals(employeeDTO, employees.get(0));
-        verify(employeeRepository).findEmployeesInDepartmentYoungerThan(1, 30);
+        verify(employeeRepository).findEmployeesInDepartmentBornAfter(1, bornAfter);
+    }
+
+    @Test
+    public void testGetLongTermEmployees() {
+        LocalDate hiredOnOrBefore = LocalDate.now().minusYears(5);
+        when(employeeRepository.findEmployeesHiredOnOrBefore(hiredOnOrBefore)).thenReturn(List.of(employeeDTO));
+
+        List<EmployeeDTO> employees = employeeService.getLongTermEmployees(5);
+
+        assertEquals(List.of(employeeDTO), employees);
+        verify(employeeRepository).findEmployeesHiredOnOrBefore(hiredOnOrBefore);
+    }
+
+    @Test
+    public void testFindOldEmployees() {
+        LocalDate bornOnOrBefore = LocalDate.now().minusYears(41);
+        when(employeeRepository.findEmployeesBornOnOrBefore(bornOnOrBefore)).thenReturn(List.of(employeeDTO));
+
+        List<EmployeeDTO> employees = employeeService.findOldEmployees(40);
+
+        assertEquals(List.of(employeeDTO), employees);
+        verify(employeeRepository).findEmployeesBornOnOrBefore(bornOnOrBefore);
+    }
+
+    @Test
+    public void testGetEmployeesInDepartmentYoungerThan_NullArgumentsFindsNoEmployees() {
+        assertEquals(List.of(), employeeService.getEmployeesInDepartmentYoungerThan(null, 30));
+        assertEquals(List.of(), employeeService.getEmployeesInDepartmentYoungerThan(1, null));
+
+        verify(employeeRepository, never()).findEmployeesInDepartmentBornAfter(any(), any());
+    }
+
+    @Test
+    public void testGetLongTermEmployees_NullYearsFindsNoEmployees() {
+        assertEquals(List.of(), employeeService.getLongTermEmployees(null));
+
+        verify(employeeRepository, never()).findEmployeesHiredOnOrBefore(any());
+    }
+
+    @Test
+    public void testFindOldEmployees_NullAgeFindsNoEmployees() {
+        assertEquals(List.of(), employeeService.findOldEmployees(null));
+
+        verify(employeeRepository, never()).findEmployeesBornOnOrBefore(any());
+    }
+
+    @Test
+    public void testAnalyticFilters_AnsweredFromSnapshot() {
+        EmployeeDTO old = EmployeeDTO.builder().id(1).lastName("Doe").position("Developer")
+                .birthDate(LocalDate.of(1960, 1, 1)).hireDate(LocalDate.of(2000, 1, 1))
+                .departmentNumber(1).salary(new BigDecimal("50000.00")).build();
+        EmployeeDTO young = EmployeeDTO.builder().id(2).lastName("Roe").position("Tester")
+                .birthDate(LocalDate.now().minusYears(20)).hireDate(LocalDate.now())
+                .departmentNumber(1).salary(new BigDecimal("30000.00")).build();
+        EmployeeSnapshot snapshot = EmployeeSnapshot.builder(2).add(old).add(young).build(Instant.now());
+        when(employeeSnapshotService.getCurrent()).thenReturn(Optional.of(snapshot));
+
+        assertEquals(List.of(young), employeeService.getEmployeesInDepartmentYoungerThan(1, 30));
+        assertEquals(List.of(old), employeeService.findOldEmployees(30));
+        assertEquals(List.of(old), employeeService.getLongTermEmployees(5));
+        verifyNoInteractions(employeeRepository);
     }
 
     @Test
     public void testIncreaseSalaryForLongTermEmployees() {
-        when(employeeRepository.findEmployeesWorkingForGivenAmountOfYearsOrMore(5)).thenReturn(List.of(employee));
+        LocalDate hiredOnOrBefore = LocalDate.now().minusYears(5);
+        when(employeeRepository.increaseSalaryForEmployeesHiredOnOrBefore(new BigDecimal("1.10"), hiredOnOrBefore))
+                .thenReturn(List.of(employee));
         when(employeeMapper.toDto(employee)).thenReturn(employeeDTO);
 
         List<EmployeeDTO> updatedEmployees = employeeService.increaseSalaryForLongTermEmployees(new BigDecimal("10"), 5);
 
         assertEquals(1, updatedEmployees.size());
         assertEquals(employeeDTO, updatedEmployees.get(0));
-        verify(employeeRepository).save(employee);
+        verify(employeeRepository).increaseSalaryForEmployeesHiredOnOrBefore(new BigDecimal("1.10"), hiredOnOrBefore);
+        verify(employeeRepository, never()).save(any());
+        verify(employeeCache, times(2)).invalidate(1);
+        verify(salaryRankingIndex).update(employeeDTO);
     }
 
     @Test
@@ -165,4 +472,11 @@ public class EmployeeServiceTest {
 
         assertNull(dto);
     }
+
+    @Test
+    public void testIncreaseSalaryForLongTermEmployees_NullArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> employeeService.increaseSalaryForLongTermEmployees(null, 5));
+        verifyNoInteractions(employeeRepository);
+    }
 }
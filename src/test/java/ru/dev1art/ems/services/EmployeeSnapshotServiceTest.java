@@ -0,0 +1,113 @@
+package ru.dev1art.ems.services;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.domain.dto.EmployeeQueryDTO;
+import ru.dev1art.ems.repos.EmployeeRepository;
+import ru.dev1art.ems.util.snapshot.ParallelScan;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeSnapshotServiceTest {
+    @Mock EmployeeRepository employeeRepository;
+    @Mock PlatformTransactionManager transactionManager;
+    List<Runnable> pendingRefreshes;
+    EmployeeSnapshotService snapshotService;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pendingRefreshes = new ArrayList<>();
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(employeeRepository.count()).thenReturn(1L);
+        when(employeeRepository.streamAll(EmployeeQueryDTO.DEFAULT))
+                .thenAnswer(invocation -> Stream.of(EmployeeDTO.builder().id(1).build()));
+        snapshotService = new EmployeeSnapshotService(employeeRepository, transactionManager, true,
+                ParallelScan.SEQUENTIAL, pendingRefreshes::add);
+    }
+
+    private void runPendingRefreshes() {
+        List<Runnable> refreshes = List.copyOf(pendingRefreshes);
+        pendingRefreshes.clear();
+        refreshes.forEach(Runnable::run);
+    }
+
+    @Test
+    public void testGetCurrent_LoadsInBackgroundOnFirstUse() {
+        assertTrue(snapshotService.getCurrent().isEmpty());
+        assertTrue(snapshotService.getCurrent().isEmpty());
+        assertEquals(1, pendingRefreshes.size());
+
+        runPendingRefreshes();
+
+        assertEquals(1, snapshotService.getCurrent().orElseThrow().getSize());
+        assertTrue(pendingRefreshes.isEmpty());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    public void testMarkStale_HidesSnapshotUntilReloaded() {
+        snapshotService.refresh();
+
+        snapshotService.markStale();
+
+        assertTrue(snapshotService.getCurrent().isEmpty());
+        runPendingRefreshes();
+        assertTrue(snapshotService.getCurrent().isPresent());
+        verify(employeeRepository, times(2)).streamAll(EmployeeQueryDTO.DEFAULT);
+    }
+
+    @Test
+    public void testRefresh_WriteDuringReloadLeavesSnapshotStale() {
+        when(employeeRepository.streamAll(EmployeeQueryDTO.DEFAULT)).thenAnswer(invocation -> {
+            snapshotService.markStale();
+            return Stream.of(EmployeeDTO.builder().id(1).build());
+        });
+
+        snapshotService.refresh();
+
+        assertTrue(snapshotService.getCurrent().isEmpty());
+    }
+
+    @Test
+    public void testRefresh_FailureAllowsNextAttempt() {
+        when(employeeRepository.streamAll(EmployeeQueryDTO.DEFAULT)).thenThrow(new IllegalStateException("down"));
+
+        snapshotService.getCurrent();
+        runPendingRefreshes();
+        snapshotService.getCurrent();
+
+        assertEquals(1, pendingRefreshes.size());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    public void testDisabled_NeverLoads() {
+        snapshotService = new EmployeeSnapshotService(employeeRepository, transactionManager, false,
+                ParallelScan.SEQUENTIAL, pendingRefreshes::add);
+
+        snapshotService.markStale();
+        snapshotService.refreshOnSchedule();
+
+        assertTrue(snapshotService.getCurrent().isEmpty());
+        assertTrue(pendingRefreshes.isEmpty());
+    }
+}
@@ -0,0 +1,248 @@
+package ru.dev1art.ems.util.async;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import ru.dev1art.ems.services.EmployeeService;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeWriteQueueTest {
+    @Mock EmployeeService employeeService;
+    @Mock ScheduledExecutorService scheduler;
+    @Mock ScheduledFuture<Object> scheduledFlush;
+    @Mock EmployeeWriteQueue.BatchListener listener;
+    final List<Runnable> pendingWork = new ArrayList<>();
+    EmployeeWriteQueue writeQueue;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        pendingWork.clear();
+        doReturn(scheduledFlush).when(scheduler).schedule(any(Runnable.class), anyLong(), any());
+        when(employeeService.saveEmployees(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        writeQueue = new EmployeeWriteQueue(employeeService, new FxTaskRunner(pendingWork::add, Runnable::run),
+                scheduler, Runnable::run, Duration.ofMillis(500), 3);
+        writeQueue.setListener(listener);
+    }
+
+    private static EmployeeDTO employee(Integer id, String lastName) {
+        return EmployeeDTO.builder().id(id).lastName(lastName).build();
+    }
+
+    private static EmployeeDTO employee(Integer id, String lastName, Long version) {
+        return EmployeeDTO.builder().id(id).lastName(lastName).version(version).build();
+    }
+
+    /**
+     * Runs the batches written so far, including the ones they trigger.
+     */
+    private void runWrites() {
+        while (!pendingWork.isEmpty()) {
+            pendingWork.remove(0).run();
+        }
+    }
+
+    @Test
+    public void testEnqueue_SchedulesOneFlush() {
+        writeQueue.enqueue(employee(null, "Doe"));
+        writeQueue.enqueue(employee(1, "Roe"));
+
+        verify(scheduler, times(1)).schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MILLISECONDS));
+        verifyNoInteractions(employeeService);
+        assertEquals(2, writeQueue.size());
+    }
+
+    @Test
+    public void testScheduledFlush_WritesOneBatch() {
+        EmployeeDTO newEmployee = employee(null, "Doe");
+        EmployeeDTO editedEmployee = employee(1, "Roe");
+        List<EmployeeDTO> saved = List.of(employee(2, "Doe"), editedEmployee);
+        when(employeeService.saveEmployees(List.of(newEmployee, editedEmployee))).thenReturn(saved);
+        writeQueue.enqueue(newEmployee);
+        writeQueue.enqueue(editedEmployee);
+
+        ArgumentCaptor<Runnable> timedFlush = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(timedFlush.capture(), anyLong(), any());
+        timedFlush.getValue().run();
+        runWrites();
+
+        verify(employeeService, times(1)).saveEmployees(any());
+        verify(listener).batchWritten(List.of(newEmployee, editedEmployee), saved);
+        assertEquals(0, writeQueue.size());
+    }
+
+    @Test
+    public void testEnqueue_CoalescesEditsOfSameEmployee() {
+        EmployeeDTO latestEdit = employee(1, "Latest");
+        writeQueue.enqueue(employee(1, "First"));
+        writeQueue.enqueue(latestEdit);
+
+        assertEquals(1, writeQueue.size());
+        writeQueue.flush();
+        runWrites();
+
+        verify(employeeService).saveEmployees(List.of(latestEdit));
+    }
+
+    @Test
+    public void testEnqueue_FlushesWhenBatchIsFull() {
+        writeQueue.enqueue(employee(null, "A"));
+        writeQueue.enqueue(employee(null, "B"));
+        writeQueue.enqueue(employee(null, "C"));
+        runWrites();
+
+        verify(employeeService).saveEmployees(List.of(employee(null, "A"), employee(null, "B"), employee(null, "C")));
+        verify(scheduledFlush).cancel(false);
+        assertEquals(0, writeQueue.size());
+    }
+
+    @Test
+    public void testFlush_ReportsFailedBatch() {
+        IllegalStateException failure = new IllegalStateException("boom");
+        when(employeeService.saveEmployees(any())).thenThrow(failure);
+        EmployeeDTO newEmployee = employee(null, "Doe");
+        writeQueue.enqueue(newEmployee);
+
+        writeQueue.flush();
+        runWrites();
+
+        verify(listener).batchFailed(List.of(newEmployee), failure);
+        verify(listener, never()).batchWritten(any(), any());
+    }
+
+    @Test
+    public void testShutdown_WritesQueuedEmployees() {
+        EmployeeDTO newEmployee = employee(null, "Doe");
+        writeQueue.enqueue(newEmployee);
+
+        writeQueue.shutdown();
+
+        verify(employeeService).saveEmployees(List.of(newEmployee));
+        verify(scheduler).shutdownNow();
+    }
+
+    @Test
+    public void testFlush_WritesOneBatchAtATime() {
+        EmployeeDTO first = employee(null, "First");
+        EmployeeDTO second = employee(null, "Second");
+        writeQueue.enqueue(first);
+        writeQueue.flush();
+        writeQueue.enqueue(second);
+        writeQueue.flush();
+
+        assertEquals(1, pendingWork.size());
+        runWrites();
+
+        verify(listener).batchWritten(List.of(first), List.of(first));
+        verify(listener).batchWritten(List.of(second), List.of(second));
+    }
+
+    @Test
+    public void testFlush_SavesEditOfOwnPendingWriteOnLatestVersion() {
+        EmployeeDTO firstEdit = employee(1, "First", 4L);
+        EmployeeDTO secondEdit = employee(1, "Second", 4L);
+        when(employeeService.saveEmployees(List.of(firstEdit))).thenReturn(List.of(employee(1, "First", 5L)));
+        writeQueue.enqueue(firstEdit);
+        writeQueue.flush();
+        writeQueue.enqueue(secondEdit);
+        writeQueue.flush();
+
+        runWrites();
+
+        verify(employeeService).saveEmployees(List.of(employee(1, "Second", 5L)));
+    }
+
+    @Test
+    public void testFlush_ReportsConflictAndWritesRestOfBatch() {
+        EmployeeDTO stale = employee(1, "Stale", 2L);
+        EmployeeDTO other = employee(2, "Other", 7L);
+        EmployeeDTO newEmployee = employee(null, "Doe");
+        ObjectOptimisticLockingFailureException conflict =
+                new ObjectOptimisticLockingFailureException("Employee", 1);
+        when(employeeService.saveEmployees(List.of(newEmployee, stale, other))).thenThrow(conflict);
+        List<EmployeeDTO> saved = List.of(employee(3, "Doe"), employee(2, "Other", 8L));
+        when(employeeService.saveEmployees(List.of(newEmployee, other))).thenReturn(saved);
+        writeQueue.enqueue(stale);
+        writeQueue.enqueue(other);
+        writeQueue.enqueue(newEmployee);
+
+        runWrites();
+
+        verify(listener).batchFailed(List.of(stale), conflict);
+        verify(listener).batchWritten(List.of(newEmployee, other), saved);
+        assertEquals(0, writeQueue.size());
+    }
+
+    @Test
+    public void testShutdown_WaitsForBatchBeingWritten() throws Exception {
+        EmployeeDTO written = employee(null, "Written");
+        EmployeeDTO queued = employee(null, "Queued");
+        writeQueue.enqueue(written);
+        writeQueue.flush();
+        writeQueue.enqueue(queued);
+
+        Thread closingThread = Thread.ofPlatform().start(writeQueue::shutdown);
+        verify(employeeService, after(200).never()).saveEmployees(List.of(queued));
+        runWrites();
+        closingThread.join(5_000);
+
+        InOrder inOrder = inOrder(employeeService);
+        inOrder.verify(employeeService).saveEmployees(List.of(written));
+        inOrder.verify(employeeService).saveEmployees(List.of(queued));
+        assertEquals(0, writeQueue.size());
+    }
+
+    @Test
+    public void testShutdown_LeavesOutConflictingEmployee() {
+        EmployeeDTO stale = employee(1, "Stale", 2L);
+        EmployeeDTO other = employee(2, "Other", 7L);
+        when(employeeService.saveEmployees(List.of(stale, other)))
+                .thenThrow(new ObjectOptimisticLockingFailureException("Employee", 1));
+        writeQueue.enqueue(stale);
+        writeQueue.enqueue(other);
+
+        writeQueue.shutdown();
+
+        verify(employeeService).saveEmployees(List.of(other));
+    }
+
+    @Test
+    public void testFlush_ForgetsVersionsOnceWriteIsConfirmed() {
+        EmployeeDTO firstEdit = employee(1, "First", 4L);
+        when(employeeService.saveEmployees(List.of(firstEdit))).thenReturn(List.of(employee(1, "First", 5L)));
+        writeQueue.enqueue(firstEdit);
+        writeQueue.flush();
+        runWrites();
+
+        EmployeeDTO staleEdit = employee(1, "Stale", 4L);
+        writeQueue.enqueue(staleEdit);
+        writeQueue.flush();
+        runWrites();
+
+        verify(employeeService).saveEmployees(List.of(staleEdit));
+    }
+}
@@ -0,0 +1,86 @@
+package ru.dev1art.ems.util.async;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FxTaskRunnerTest {
+    final List<Runnable> pendingWork = new ArrayList<>();
+    FxTaskRunner taskRunner;
+
+    @BeforeEach
+    public void setUp() {
+        pendingWork.clear();
+        taskRunner = new FxTaskRunner(pendingWork::add, Runnable::run);
+    }
+
+    @Test
+    public void testSubmit_DeliversResult() {
+        AtomicReference<String> result = new AtomicReference<>();
+
+        taskRunner.submit("channel", () -> "done", result::set, exception -> fail());
+        assertTrue(taskRunner.busyProperty().get());
+        pendingWork.forEach(Runnable::run);
+
+        assertEquals("done", result.get());
+        assertFalse(taskRunner.busyProperty().get());
+    }
+
+    @Test
+    public void testSubmit_CancelsStaleTaskOnSameChannel() {
+        List<String> results = new ArrayList<>();
+
+        taskRunner.submit("channel", () -> "stale", results::add, exception -> fail());
+        taskRunner.submit("channel", () -> "latest", results::add, exception -> fail());
+        pendingWork.forEach(Runnable::run);
+
+        assertEquals(List.of("latest"), results);
+        assertFalse(taskRunner.busyProperty().get());
+    }
+
+    @Test
+    public void testSubmit_KeepsTasksOnOtherChannels() {
+        List<String> results = new ArrayList<>();
+
+        taskRunner.submit("first", () -> "first", results::add, exception -> fail());
+        taskRunner.submit("second", () -> "second", results::add, exception -> fail());
+        pendingWork.forEach(Runnable::run);
+
+        assertEquals(List.of("first", "second"), results);
+    }
+
+    @Test
+    public void testSubmit_ReportsFailure() {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        taskRunner.submit("channel", () -> {
+            throw new IllegalStateException("boom");
+        }, result -> fail(), failure::set);
+        pendingWork.forEach(Runnable::run);
+
+        assertInstanceOf(IllegalStateException.class, failure.get());
+    }
+
+    @Test
+    public void testRun_IsNotCancelledBySubsequentWrites() {
+        List<String> completed = new ArrayList<>();
+
+        taskRunner.run(() -> { }, () -> completed.add("first"), exception -> fail());
+        taskRunner.run(() -> { }, () -> completed.add("second"), exception -> fail());
+        pendingWork.forEach(Runnable::run);
+
+        assertEquals(List.of("first", "second"), completed);
+    }
+}
@@ -0,0 +1,129 @@
+package ru.dev1art.ems.util.cache;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeCacheTest {
+    static final Instant START = Instant.parse("2026-10-18T10:00:00Z");
+    final AtomicInteger loads = new AtomicInteger();
+    EmployeeCache employeeCache;
+
+    @BeforeEach
+    public void setUp() {
+        loads.set(0);
+        employeeCache = new EmployeeCache(2, Duration.ofMinutes(5), Clock.fixed(START, ZoneOffset.UTC));
+    }
+
+    private EmployeeDTO load(Integer id) {
+        loads.incrementAndGet();
+        return EmployeeDTO.builder().id(id).build();
+    }
+
+    @Test
+    public void testGet_CachesLoadedEmployee() {
+        employeeCache.get(1, this::load);
+        EmployeeDTO employee = employeeCache.get(1, this::load);
+
+        assertEquals(1, employee.id());
+        assertEquals(1, loads.get());
+        assertEquals(1, employeeCache.getHitCount());
+        assertEquals(1, employeeCache.getMissCount());
+    }
+
+    @Test
+    public void testGet_EvictsLeastRecentlyUsed() {
+        employeeCache.get(1, this::load);
+        employeeCache.get(2, this::load);
+        employeeCache.get(1, this::load);
+        employeeCache.get(3, this::load);
+
+        assertEquals(2, employeeCache.size());
+        assertEquals(1, employeeCache.getEvictionCount());
+        employeeCache.get(1, this::load);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    public void testGet_ReloadsExpiredEntry() {
+        MutableClock clock = new MutableClock();
+        EmployeeCache expiringCache = new EmployeeCache(2, Duration.ofMinutes(5), clock);
+
+        expiringCache.get(1, this::load);
+        clock.now = START.plus(Duration.ofMinutes(6));
+        expiringCache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(1, expiringCache.getEvictionCount());
+    }
+
+    @Test
+    public void testInvalidate() {
+        employeeCache.get(1, this::load);
+        employeeCache.invalidate(1);
+        employeeCache.invalidate(null);
+        employeeCache.get(1, this::load);
+
+        assertEquals(2, loads.get());
+        employeeCache.invalidateAll();
+        assertEquals(0, employeeCache.size());
+    }
+
+    @Test
+    public void testGet_DoesNotCacheFailedLoad() {
+        assertThrows(IllegalStateException.class, () -> employeeCache.get(1, id -> {
+            throw new IllegalStateException("not found");
+        }));
+
+        assertEquals(0, employeeCache.size());
+    }
+
+    @Test
+    public void testGet_DoesNotCacheLoadOverlappingInvalidation() {
+        EmployeeDTO employee = employeeCache.get(1, id -> {
+            employeeCache.invalidate(1);
+            return load(id);
+        });
+
+        assertEquals(1, employee.id());
+        assertEquals(0, employeeCache.size());
+        employeeCache.get(1, this::load);
+        assertEquals(1, employeeCache.size());
+        assertEquals(2, loads.get());
+    }
+
+    private static class MutableClock extends Clock {
+        Instant now = START;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
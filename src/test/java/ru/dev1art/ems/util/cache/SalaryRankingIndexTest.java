@@ -0,0 +1,179 @@
+package ru.dev1art.ems.util.cache;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class SalaryRankingIndexTest {
+    SalaryRankingIndex rankingIndex;
+    List<EmployeeDTO> database;
+    AtomicInteger loads;
+    IntFunction<List<EmployeeDTO>> highestLoader;
+    IntFunction<List<EmployeeDTO>> lowestLoader;
+
+    @BeforeEach
+    public void setUp() {
+        rankingIndex = new SalaryRankingIndex(2, 3);
+        database = new ArrayList<>();
+        for (int id = 1; id <= 6; id++) {
+            database.add(employee(id, id * 1000));
+        }
+        loads = new AtomicInteger();
+        highestLoader = limit -> load(SalaryRankingIndex.HIGHEST_FIRST, limit);
+        lowestLoader = limit -> load(SalaryRankingIndex.LOWEST_FIRST, limit);
+    }
+
+    private static EmployeeDTO employee(int id, int salary) {
+        return EmployeeDTO.builder().id(id).salary(BigDecimal.valueOf(salary)).build();
+    }
+
+    private List<EmployeeDTO> load(Comparator<EmployeeDTO> order, int limit) {
+        loads.incrementAndGet();
+        return database.stream()
+                .filter(employee -> employee.salary() != null)
+                .sorted(order)
+                .limit(limit)
+                .toList();
+    }
+
+    private void save(EmployeeDTO employee) {
+        database.removeIf(existing -> existing.id().equals(employee.id()));
+        database.add(employee);
+        rankingIndex.update(employee);
+    }
+
+    private static List<Integer> ids(List<EmployeeDTO> employees) {
+        return employees.stream().map(EmployeeDTO::id).toList();
+    }
+
+    @Test
+    public void testGetHighest_LoadsOnceThenServesFromMemory() {
+        assertEquals(List.of(6, 5), ids(rankingIndex.getHighest(2, highestLoader)));
+        assertEquals(List.of(6, 5, 4), ids(rankingIndex.getHighest(3, highestLoader)));
+        assertEquals(List.of(1, 2), ids(rankingIndex.getLowest(2, lowestLoader)));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testUpdate_MovesEmployeeIntoAndOutOfRanking() {
+        rankingIndex.getHighest(2, highestLoader);
+
+        save(employee(1, 10_000));
+        assertEquals(List.of(1, 6, 5), ids(rankingIndex.getHighest(3, highestLoader)));
+
+        save(employee(6, 500));
+        assertEquals(List.of(1, 5), ids(rankingIndex.getHighest(2, highestLoader)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testUpdate_IgnoresEmployeesRankedAfterKnownOnes() {
+        rankingIndex.getHighest(2, highestLoader);
+
+        save(employee(7, 2500));
+
+        assertEquals(List.of(6, 5, 4), ids(rankingIndex.getHighest(3, highestLoader)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testRemove_ReloadsWhenRankingTooSmall() {
+        rankingIndex.getHighest(2, highestLoader);
+        database.removeIf(employee -> employee.id() == 6 || employee.id() == 5);
+        rankingIndex.remove(6);
+        rankingIndex.remove(5);
+
+        assertEquals(List.of(4), ids(rankingIndex.getHighest(1, highestLoader)));
+        assertEquals(1, loads.get());
+        assertEquals(List.of(4, 3), ids(rankingIndex.getHighest(2, highestLoader)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testUpdate_CompleteRankingAcceptsEveryEmployee() {
+        database.removeIf(employee -> employee.id() > 2);
+        assertEquals(List.of(2, 1), ids(rankingIndex.getHighest(2, highestLoader)));
+
+        save(employee(3, 10));
+        save(employee(4, 20));
+
+        assertEquals(List.of(3, 4), ids(rankingIndex.getLowest(2, lowestLoader)));
+        assertEquals(List.of(2, 1, 4), ids(rankingIndex.getHighest(3, highestLoader)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testUpdate_EmployeeWithoutSalaryIsNotRanked() {
+        rankingIndex.getLowest(2, lowestLoader);
+
+        save(EmployeeDTO.builder().id(1).build());
+
+        assertEquals(List.of(2, 3), ids(rankingIndex.getLowest(2, lowestLoader)));
+    }
+
+    @Test
+    public void testGet_CountAboveCapacityGoesToLoader() {
+        assertEquals(5, rankingIndex.getHighest(5, highestLoader).size());
+        assertEquals(5, rankingIndex.getHighest(5, highestLoader).size());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testInvalidateAll_ReloadsOnNextLookup() {
+        rankingIndex.getHighest(2, highestLoader);
+        database.add(employee(7, 9000));
+
+        rankingIndex.invalidateAll();
+
+        assertEquals(List.of(7, 6), ids(rankingIndex.getHighest(2, highestLoader)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testRefreshOnSchedule_PicksUpWritesOfOtherClients() {
+        rankingIndex.getLowest(2, lowestLoader);
+        database.add(employee(7, 500));
+
+        assertEquals(List.of(1, 2), ids(rankingIndex.getLowest(2, lowestLoader)));
+        rankingIndex.refreshOnSchedule();
+
+        assertEquals(List.of(7, 1), ids(rankingIndex.getLowest(2, lowestLoader)));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testGet_WriteDuringLoadIsNotLost() {
+        IntFunction<List<EmployeeDTO>> racingLoader = limit -> {
+            List<EmployeeDTO> stale = load(SalaryRankingIndex.HIGHEST_FIRST, limit);
+            save(employee(1, 10_000));
+            return stale;
+        };
+
+        assertEquals(List.of(6, 5), ids(rankingIndex.getHighest(2, racingLoader)));
+        assertEquals(List.of(1, 6), ids(rankingIndex.getHighest(2, highestLoader)));
+    }
+
+    @Test
+    public void testConstructor_InvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new SalaryRankingIndex(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new SalaryRankingIndex(10, 5));
+    }
+}
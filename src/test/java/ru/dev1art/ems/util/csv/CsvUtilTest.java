@@ -0,0 +1,46 @@
+package ru.dev1art.ems.util.csv;
+
+import org.junit.jupiter.api.Test;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public class CsvUtilTest {
+
+    @Test
+    public void testParseLine_PlainFields() {
+        assertEquals(List.of("1", "Doe", "", "2020-01-01"), CsvUtil.parseLine("1,Doe,,2020-01-01"));
+    }
+
+    @Test
+    public void testParseLine_QuotedFields() {
+        assertEquals(List.of("Doe, John", "say \"hi\"", ""), CsvUtil.parseLine("\"Doe, John\",\"say \"\"hi\"\"\",\"\""));
+    }
+
+    @Test
+    public void testParseLine_UnterminatedQuote() {
+        assertThrows(IllegalArgumentException.class, () -> CsvUtil.parseLine("1,\"Doe"));
+    }
+
+    @Test
+    public void testAppendRecord_QuotesWhereNecessary() {
+        String record = CsvUtil.appendRecord(new StringBuilder(), 1, "Doe, John", null, "say \"hi\"",
+                LocalDate.of(2020, 1, 1), new BigDecimal("500.50")).toString();
+
+        assertEquals("1,\"Doe, John\",,\"say \"\"hi\"\"\",2020-01-01,500.50\n", record);
+    }
+
+    @Test
+    public void testAppendRecord_RoundTrip() {
+        String record = CsvUtil.appendRecord(new StringBuilder(), "a,b", "\"", "plain").toString();
+
+        assertEquals(List.of("a,b", "\"", "plain"), CsvUtil.parseLine(record.stripTrailing()));
+    }
+}
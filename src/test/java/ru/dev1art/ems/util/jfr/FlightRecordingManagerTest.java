@@ -0,0 +1,71 @@
+package ru.dev1art.ems.util.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import java.nio.file.Path;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class FlightRecordingManagerTest {
+    @TempDir Path tempDir;
+    FlightRecordingManager flightRecordingManager;
+
+    @BeforeEach
+    public void setUp() {
+        flightRecordingManager = new FlightRecordingManager("default");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        flightRecordingManager.close();
+    }
+
+    @Test
+    public void testStartAndDump_WritesEmsEvents() throws Exception {
+        Path destination = tempDir.resolve("ems.jfr");
+
+        flightRecordingManager.start();
+        assertTrue(flightRecordingManager.isRecording());
+        ServiceCallEvent event = new ServiceCallEvent("service", "getAllEmployees");
+        event.begin();
+        event.setRows(3);
+        event.commit();
+        flightRecordingManager.dumpAndStop(destination);
+
+        assertFalse(flightRecordingManager.isRecording());
+        List<RecordedEvent> serviceCalls = RecordingFile.readAllEvents(destination).stream()
+                .filter(recorded -> recorded.getEventType().getName().equals("ru.dev1art.ems.ServiceCall"))
+                .toList();
+        assertEquals(1, serviceCalls.size());
+        assertEquals("getAllEmployees", serviceCalls.get(0).getString("method"));
+        assertEquals(3, serviceCalls.get(0).getInt("rows"));
+    }
+
+    @Test
+    public void testStart_WhileRecordingKeepsRecording() throws Exception {
+        flightRecordingManager.start();
+        flightRecordingManager.start();
+
+        flightRecordingManager.dumpAndStop(tempDir.resolve("ems.jfr"));
+
+        assertFalse(flightRecordingManager.isRecording());
+    }
+
+    @Test
+    public void testDumpAndStop_WithoutRecordingThrows() {
+        assertThrows(IllegalStateException.class, () -> flightRecordingManager.dumpAndStop(tempDir.resolve("ems.jfr")));
+    }
+}
@@ -9,6 +9,9 @@ import java.util.Locale;
 import java.util.ResourceBundle;
 import static org.hibernate.validator.internal.util.Contracts.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -67,6 +70,18 @@ public class I18NUtilTest {
         assertEquals(invalidKey, localizedString);
     }
 
+    @Test
+    public void testLocalize_CachedMessagesFollowLocale() {
+        I18NUtil.setLocale(I18NUtil.getSupportedLocales().get(0));
+        String english = I18NUtil.localize("findButton");
+        assertEquals(english, I18NUtil.localize("findButton"));
+
+        I18NUtil.setLocale(I18NUtil.getSupportedLocales().get(1));
+
+        assertNotEquals(english, I18NUtil.localize("findButton"));
+        assertEquals(I18NUtil.localize("findButton"), I18NUtil.localize("findButton", 42));
+    }
+
     @Test
     public void testCreateStringBinding() {
         StringBinding binding = I18NUtil.createStringBinding(TEST_KEY);
@@ -81,6 +96,20 @@ public class I18NUtilTest {
         assertEquals("Hello, Doe!", binding.get());
     }
 
+    @Test
+    public void testGetStringBinding_SharedPerKeyAndFollowsLocale() {
+        I18NUtil.setLocale(I18NUtil.getSupportedLocales().get(0));
+        StringBinding binding = I18NUtil.getStringBinding("findButton");
+        String english = binding.get();
+
+        I18NUtil.setLocale(I18NUtil.getSupportedLocales().get(1));
+
+        assertSame(binding, I18NUtil.getStringBinding("findButton"));
+        assertNotSame(binding, I18NUtil.getStringBinding("menuLabel"));
+        assertEquals(I18NUtil.localize("findButton"), binding.get());
+        assertNotEquals(english, binding.get());
+    }
+
     @Test
     public void testCreateStringBinding_WithCallable() {
         StringBinding binding = I18NUtil.createStringBinding(() -> TEST_LOCALIZED_STRING);
@@ -1,13 +1,20 @@
 package ru.dev1art.ems.util.lang;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -64,4 +71,80 @@ public class LocalizationManagerTest {
 
         assertEquals(newLocale, localizationManager.getCurrentLocale(), "Current locale should be updated");
     }
+
+    @Test
+    public void testAddLocaleChangeListener_Twice() {
+        LocaleChangeListener listener = Mockito.mock(LocaleChangeListener.class);
+        localizationManager.addLocaleChangeListener(listener);
+        localizationManager.addLocaleChangeListener(listener);
+
+        Locale newLocale = new Locale("it", "IT");
+        localizationManager.setLocale(newLocale);
+
+        verify(listener, times(1)).localeChanged(newLocale);
+    }
+
+    @Test
+    public void testRemoveLocaleChangeListener() {
+        LocaleChangeListener listener = Mockito.mock(LocaleChangeListener.class);
+        localizationManager.addLocaleChangeListener(listener);
+        localizationManager.removeLocaleChangeListener(listener);
+
+        localizationManager.setLocale(new Locale("pt", "PT"));
+
+        assertFalse(localizationManager.getListeners().contains(listener), "Listener should be removed");
+        verify(listener, never()).localeChanged(Mockito.any());
+    }
+
+    @Test
+    public void testUnreferencedListenersAreDropped() throws InterruptedException {
+        int listenersBefore = localizationManager.getListeners().size();
+        AtomicInteger notifications = new AtomicInteger();
+        for (int i = 0; i < 10_000; i++) {
+            localizationManager.addLocaleChangeListener(locale -> notifications.incrementAndGet());
+        }
+
+        for (int i = 0; i < 20 && localizationManager.getListeners().size() > listenersBefore; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        localizationManager.setLocale(new Locale("nl", "NL"));
+
+        assertTrue(localizationManager.getListeners().size() <= listenersBefore,
+                "Unreferenced listeners should be dropped");
+        assertEquals(0, notifications.get(), "Unreferenced listeners should not be notified");
+    }
+
+    @Test
+    public void testAddLocaleChangeListener_WhileActive() {
+        int listenersBefore = localizationManager.getListeners().size();
+        for (int i = 0; i < 1_000; i++) {
+            BooleanProperty showing = new SimpleBooleanProperty(true);
+            localizationManager.addLocaleChangeListener(Mockito.mock(LocaleChangeListener.class), showing);
+            showing.set(false);
+        }
+
+        assertEquals(listenersBefore, localizationManager.getListeners().size(),
+                "Listeners of hidden windows should be removed");
+    }
+
+    @Test
+    public void testAddLocaleChangeListener_CatchesUpWhenActivated() {
+        localizationManager.setLocale(Locale.ENGLISH);
+        LocaleChangeListener listener = Mockito.mock(LocaleChangeListener.class);
+        BooleanProperty showing = new SimpleBooleanProperty(false);
+        localizationManager.addLocaleChangeListener(listener, showing);
+
+        Locale newLocale = new Locale("ru");
+        localizationManager.setLocale(newLocale);
+        verify(listener, never()).localeChanged(Mockito.any());
+
+        showing.set(true);
+        verify(listener, times(1)).localeChanged(newLocale);
+        assertTrue(localizationManager.getListeners().contains(listener), "Listener should be added when shown");
+
+        showing.set(false);
+        showing.set(true);
+        verify(listener, times(1)).localeChanged(newLocale);
+    }
 }
@@ -0,0 +1,79 @@
+package ru.dev1art.ems.util.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeMetricsAspectTest {
+    @Mock ProceedingJoinPoint joinPoint;
+    @Mock Signature signature;
+    SimpleMeterRegistry meterRegistry;
+    EmployeeMetricsAspect metricsAspect;
+
+    @BeforeEach
+    public void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        metricsAspect = new EmployeeMetricsAspect(meterRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getName()).thenReturn("getAllEmployees");
+    }
+
+    @Test
+    public void testMeasure_RecordsDurationAndRows() throws Throwable {
+        List<EmployeeDTO> employees = List.of(EmployeeDTO.builder().id(1).build(), EmployeeDTO.builder().id(2).build());
+        when(joinPoint.proceed()).thenReturn(employees);
+
+        assertSame(employees, metricsAspect.measureService(joinPoint));
+        metricsAspect.measureService(joinPoint);
+
+        assertEquals(2, meterRegistry.get("ems.service.calls").tag("method", "getAllEmployees").timer().count());
+        assertEquals(4, meterRegistry.get("ems.service.rows").tag("method", "getAllEmployees").counter().count());
+        assertTrue(meterRegistry.find("ems.service.errors").counters().isEmpty());
+    }
+
+    @Test
+    public void testMeasure_CountsErrorsAndRethrows() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("down"));
+
+        assertThrows(IllegalStateException.class, () -> metricsAspect.measureRepository(joinPoint));
+
+        assertEquals(1, meterRegistry.get("ems.repository.calls").tag("method", "getAllEmployees").timer().count());
+        assertEquals(1, meterRegistry.get("ems.repository.errors")
+                .tag("method", "getAllEmployees")
+                .tag("exception", "IllegalStateException")
+                .counter().count());
+    }
+
+    @Test
+    public void testCountRows() {
+        assertEquals(3, EmployeeMetricsAspect.countRows(List.of(1, 2, 3)));
+        assertEquals(1, EmployeeMetricsAspect.countRows(Optional.of(EmployeeDTO.builder().build())));
+        assertEquals(0, EmployeeMetricsAspect.countRows(Optional.empty()));
+        assertEquals(1, EmployeeMetricsAspect.countRows(EmployeeDTO.builder().build()));
+        assertEquals(1, EmployeeMetricsAspect.countRows(new EmployeeChangesDTO(
+                Instant.EPOCH, 1, 10, List.of(EmployeeDTO.builder().id(1).build()), List.of(1, 2))));
+        assertEquals(EmployeeMetricsAspect.NO_ROWS, EmployeeMetricsAspect.countRows(42));
+        assertEquals(EmployeeMetricsAspect.NO_ROWS, EmployeeMetricsAspect.countRows(null));
+    }
+}
@@ -0,0 +1,111 @@
+package ru.dev1art.ems.util.snapshot;
+
+import org.junit.jupiter.api.Test;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public class EmployeeSnapshotTest {
+
+    private static EmployeeDTO employee(int id, LocalDate birthDate, LocalDate hireDate, Integer departmentNumber) {
+        return EmployeeDTO.builder()
+                .id(id)
+                .lastName("Doe" + id)
+                .position("Developer")
+                .birthDate(birthDate)
+                .hireDate(hireDate)
+                .departmentNumber(departmentNumber)
+                .salary(new BigDecimal("1234.50"))
+                .build();
+    }
+
+    private static EmployeeSnapshot snapshot(EmployeeDTO... employees) {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(employees.length);
+        for (EmployeeDTO employee : employees) {
+            builder.add(employee);
+        }
+        return builder.build(Instant.EPOCH);
+    }
+
+    @Test
+    public void testFindInDepartmentBornAfter() {
+        EmployeeSnapshot snapshot = snapshot(
+                employee(1, LocalDate.of(1990, 1, 1), null, 1),
+                employee(2, LocalDate.of(2000, 1, 1), null, 1),
+                employee(3, LocalDate.of(2000, 1, 1), null, 2),
+                employee(4, null, null, 1));
+
+        assertArrayEquals(new int[] {1}, snapshot.findInDepartmentBornAfter(1, LocalDate.of(1990, 1, 1)));
+        assertArrayEquals(new int[0],
+                snapshot.findInDepartmentBornAfter(EmployeeSnapshot.NO_VALUE, LocalDate.of(1900, 1, 1)));
+    }
+
+    @Test
+    public void testFindOnOrBefore_BoundIsInclusiveAndMissingDatesNeverMatch() {
+        LocalDate date = LocalDate.of(2010, 5, 5);
+        EmployeeSnapshot snapshot = snapshot(
+                employee(1, date, date.plusDays(1), 1),
+                employee(2, null, null, 1),
+                employee(3, date.minusDays(1), date, 1));
+
+        assertArrayEquals(new int[] {0, 2}, snapshot.findBornOnOrBefore(date));
+        assertArrayEquals(new int[] {2}, snapshot.findHiredOnOrBefore(date));
+    }
+
+    @Test
+    public void testToDtos_RoundTrip() {
+        EmployeeDTO complete = employee(1, LocalDate.of(1990, 1, 1), LocalDate.of(2020, 1, 1), 3);
+        EmployeeDTO empty = EmployeeDTO.builder().id(2).build();
+        EmployeeSnapshot snapshot = snapshot(complete, empty);
+
+        assertEquals(List.of(empty, complete), snapshot.toDtos(new int[] {1, 0}));
+        assertEquals(Instant.EPOCH, snapshot.getLoadedAt());
+    }
+
+    @Test
+    public void testBuilder_GrowsBeyondExpectedSize() {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(0);
+        for (int id = 1; id <= 100; id++) {
+            builder.add(employee(id, LocalDate.of(1990, 1, 1), null, id % 2));
+        }
+        EmployeeSnapshot snapshot = builder.build(Instant.EPOCH);
+
+        assertEquals(100, snapshot.getSize());
+        assertEquals(100, snapshot.toDto(99).id());
+        assertEquals(50, snapshot.findInDepartmentBornAfter(0, LocalDate.of(1900, 1, 1)).length);
+    }
+
+    @Test
+    public void testParallelScan_MatchesSequentialScan() {
+        EmployeeSnapshot.Builder builder = EmployeeSnapshot.builder(100_000);
+        for (int id = 1; id <= 100_000; id++) {
+            LocalDate birthDate = id % 7 == 0 ? null : LocalDate.of(1960, 1, 1).plusDays(id % 15_000);
+            builder.add(employee(id, birthDate, LocalDate.of(2000, 1, 1).plusDays(id % 9_000), id % 10));
+        }
+        EmployeeSnapshot sequential = builder.build(Instant.EPOCH);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            EmployeeSnapshot parallel = sequential.withParallelScan(new ParallelScan(pool, 0));
+            LocalDate date = LocalDate.of(1980, 6, 1);
+
+            assertArrayEquals(sequential.findBornOnOrBefore(date), parallel.findBornOnOrBefore(date));
+            assertArrayEquals(sequential.findHiredOnOrBefore(date.plusYears(25)),
+                    parallel.findHiredOnOrBefore(date.plusYears(25)));
+            assertArrayEquals(sequential.findInDepartmentBornAfter(3, date),
+                    parallel.findInDepartmentBornAfter(3, date));
+            assertTrue(parallel.findBornOnOrBefore(date).length > 0);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package ru.dev1art.ems.util.snapshot;
+
+import org.junit.jupiter.api.Test;
+import java.util.concurrent.ForkJoinPool;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+public class ParallelScanTest {
+
+    @Test
+    public void testIsParallel_DependsOnSize() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelScan parallelScan = new ParallelScan(pool, 1000);
+
+            assertFalse(parallelScan.isParallel(999));
+            assertTrue(parallelScan.isParallel(1000));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testIsParallel_NeverWithoutPoolOrSingleThread() {
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            assertFalse(ParallelScan.SEQUENTIAL.isParallel(Integer.MAX_VALUE));
+            assertFalse(new ParallelScan(pool, 0).isParallel(1_000_000));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRangeSize_GivesEveryThreadSeveralRanges() {
+        ForkJoinPool pool = new ForkJoinPool(8);
+        try {
+            ParallelScan parallelScan = new ParallelScan(pool, 0);
+
+            assertEquals(ParallelScan.MIN_RANGE_SIZE, parallelScan.rangeSize(1000));
+            assertEquals(1_000_000 / 32, parallelScan.rangeSize(1_000_000));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConstructor_NegativeThreshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelScan(null, -1));
+    }
+}
@@ -0,0 +1,183 @@
+package ru.dev1art.ems.util.table;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ru.dev1art.ems.domain.dto.EmployeeChangesDTO;
+import ru.dev1art.ems.domain.dto.EmployeeDTO;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Dev1Art
+ * @project EMS
+ * @date 18.10.2026
+ */
+
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class EmployeeTableModelTest {
+    EmployeeTableModel tableModel;
+
+    @BeforeEach
+    public void setUp() {
+        tableModel = new EmployeeTableModel(2, 2);
+    }
+
+    private static List<EmployeeDTO> employees(int fromId, int toId) {
+        return IntStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> EmployeeDTO.builder().id(id).build())
+                .toList();
+    }
+
+    @Test
+    public void testSetFirstPage() {
+        tableModel.setFirstPage(employees(1, 2), null);
+
+        assertEquals(employees(1, 2), tableModel.getItems());
+        assertEquals(2, tableModel.getNextPageAnchor().id());
+        assertNull(tableModel.getPreviousPageAnchor());
+    }
+
+    @Test
+    public void testAppendPage_DropsFirstPageWhenWindowIsFull() {
+        tableModel.setFirstPage(employees(1, 2), null);
+        assertEquals(0, tableModel.appendPage(employees(3, 4)));
+        assertEquals(2, tableModel.appendPage(employees(5, 5)));
+
+        assertEquals(employees(3, 5), tableModel.getItems());
+        assertEquals(3, tableModel.getPreviousPageAnchor().id());
+        assertNull(tableModel.getNextPageAnchor());
+    }
+
+    @Test
+    public void testPrependPage_RestoresDroppedPage() {
+        tableModel.setFirstPage(employees(1, 2), null);
+        tableModel.appendPage(employees(3, 4));
+        tableModel.appendPage(employees(5, 6));
+
+        assertEquals(2, tableModel.prependPage(employees(1, 2)));
+        assertEquals(employees(1, 4), tableModel.getItems());
+        assertEquals(4, tableModel.getNextPageAnchor().id());
+    }
+
+    @Test
+    public void testConstructor_InvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeTableModel(0, 2));
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeTableModel(10, 1));
+    }
+
+    @Test
+    public void testApplyChanges_UpdatesInsertsAndRemovesInPlace() {
+        Instant loadedAt = Instant.parse("2026-10-18T10:00:00Z");
+        tableModel = new EmployeeTableModel(10, 2);
+        tableModel.setFirstPage(employees(1, 3), loadedAt);
+        EmployeeDTO updated = EmployeeDTO.builder().id(3).lastName("Updated").build();
+        EmployeeDTO inserted = EmployeeDTO.builder().id(4).lastName("New").build();
+
+        tableModel.applyChanges(EmployeeChangesDTO.builder()
+                .loadedAt(loadedAt.plusSeconds(5))
+                .fromId(tableModel.getRefreshFromId())
+                .toId(tableModel.getRefreshToId())
+                .changedEmployees(List.of(updated, inserted))
+                .presentIds(List.of(1, 3, 4))
+                .build());
+
+        assertEquals(List.of(employees(1, 1).get(0), updated, inserted), tableModel.getItems());
+        assertEquals(loadedAt.plusSeconds(5), tableModel.getLoadedAt());
+    }
+
+    @Test
+    public void testApplyChanges_KeepsRowsOutsideRange() {
+        tableModel.setFirstPage(employees(1, 2), null);
+        tableModel.appendPage(employees(3, 4));
+
+        tableModel.applyChanges(EmployeeChangesDTO.builder()
+                .fromId(3)
+                .toId(4)
+                .changedEmployees(List.of())
+                .presentIds(List.of(4))
+                .build());
+
+        assertEquals(List.of(1, 2, 4), tableModel.getItems().stream().map(EmployeeDTO::id).toList());
+    }
+
+    @Test
+    public void testRefreshRange_OpenWithoutAdjacentPages() {
+        tableModel.setFirstPage(employees(1, 1), null);
+
+        assertEquals(Integer.MIN_VALUE, tableModel.getRefreshFromId());
+        assertEquals(Integer.MAX_VALUE, tableModel.getRefreshToId());
+    }
+
+    @Test
+    public void testShowPending_ConfirmReplacesPendingRows() {
+        tableModel.setFirstPage(employees(1, 1), null);
+        EmployeeDTO edited = EmployeeDTO.builder().id(1).lastName("Doe").build();
+        EmployeeDTO added = EmployeeDTO.builder().lastName("Roe").build();
+
+        tableModel.showPending(edited);
+        tableModel.showPending(added);
+        assertEquals(List.of(edited, added), tableModel.getItems());
+        assertEquals(2, tableModel.getPendingCount());
+
+        EmployeeDTO saved = EmployeeDTO.builder().id(7).lastName("Roe").build();
+        tableModel.confirmPending(List.of(edited, added), List.of(edited, saved));
+
+        assertEquals(List.of(edited, saved), tableModel.getItems());
+        assertEquals(0, tableModel.getPendingCount());
+    }
+
+    @Test
+    public void testRollbackPending_RestoresPreviousRows() {
+        tableModel.setFirstPage(employees(1, 1), null);
+        EmployeeDTO added = EmployeeDTO.builder().lastName("Roe").build();
+        EmployeeDTO edited = EmployeeDTO.builder().id(1).lastName("Doe").build();
+        EmployeeDTO editedAgain = EmployeeDTO.builder().id(1).lastName("Moe").build();
+        tableModel.showPending(added);
+        tableModel.showPending(edited);
+        tableModel.showPending(editedAgain);
+
+        tableModel.rollbackPending(List.of(added, editedAgain));
+
+        assertEquals(employees(1, 1), tableModel.getItems());
+        assertEquals(0, tableModel.getPendingCount());
+    }
+
+    @Test
+    public void testShowPending_NewRowHiddenUntilLastPageIsLoaded() {
+        tableModel.setFirstPage(employees(1, 2), null);
+        EmployeeDTO added = EmployeeDTO.builder().lastName("Roe").build();
+
+        tableModel.showPending(added);
+        assertEquals(employees(1, 2), tableModel.getItems());
+        assertEquals(2, tableModel.getNextPageAnchor().id());
+
+        tableModel.appendPage(employees(3, 3));
+        assertEquals(List.of(1, 2, 3), tableModel.getItems().stream().limit(3).map(EmployeeDTO::id).toList());
+        assertSame(added, tableModel.getItems().get(3));
+    }
+
+    @Test
+    public void testApplyChanges_KeepsPendingRows() {
+        tableModel.setFirstPage(employees(1, 1), null);
+        EmployeeDTO edited = EmployeeDTO.builder().id(1).lastName("Doe").build();
+        EmployeeDTO added = EmployeeDTO.builder().lastName("Roe").build();
+        tableModel.showPending(edited);
+        tableModel.showPending(added);
+
+        EmployeeDTO inserted = EmployeeDTO.builder().id(2).build();
+        tableModel.applyChanges(EmployeeChangesDTO.builder()
+                .fromId(Integer.MIN_VALUE)
+                .toId(Integer.MAX_VALUE)
+                .changedEmployees(List.of(inserted))
+                .presentIds(List.of(1, 2))
+                .build());
+
+        assertEquals(List.of(edited, inserted, added), tableModel.getItems());
+        tableModel.rollbackPending(List.of(edited, added));
+        assertEquals(employees(1, 2), tableModel.getItems());
+    }
+}